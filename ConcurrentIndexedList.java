@@ -0,0 +1,483 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe IndexedUnsortedList backed by an IUDoubleLinkedList and a
+ * StampedLock. Mutators take the write lock. size, isEmpty, first, last,
+ * get and contains first try an optimistic read, which takes no lock at
+ * all, and only fall back to the shared read lock if a writer got in the
+ * way. Readers never write to the list, so any number of them can run
+ * together: get() uses a lookup that leaves the list's finger alone.
+ * Everything else reads under the read lock.
+ *
+ * Iterators walk the live list and support every ListIterator method.
+ * Each call takes the lock for just that call, the read lock to move and
+ * the write lock to change the list, so like the backing list's own
+ * iterators they fail fast with a ConcurrentModificationException once
+ * the list is changed other than through them, including by another
+ * thread between two calls. An iterator must stay on one thread.
+ *
+ * @author NathanMarquis
+ *
+ * @param <T> type to store
+ */
+public class ConcurrentIndexedList<T> implements IndexedUnsortedList<T> {
+	private final IUDoubleLinkedList<T> list;
+	private final StampedLock lock;
+
+	/**
+	 * Creates an empty list
+	 */
+	public ConcurrentIndexedList() {
+		list = new IUDoubleLinkedList<T>();
+		lock = new StampedLock();
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToFront(T element) {
+		long stamp = lock.writeLock();
+		try {
+			list.addToFront(element);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToRear(T element) {
+		long stamp = lock.writeLock();
+		try {
+			list.addToRear(element);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Same as addToRear(), under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAfter(T element, T target) {
+		long stamp = lock.writeLock();
+		try {
+			list.addAfter(element, target);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, T element) {
+		long stamp = lock.writeLock();
+		try {
+			list.add(index, element);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeFirst() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeFirst();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeLast() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeLast();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(T element) {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(element);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(int index) {
+		long stamp = lock.writeLock();
+		try {
+			return list.remove(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		long stamp = lock.writeLock();
+		try {
+			list.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Under the write lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(int index, T element) {
+		long stamp = lock.writeLock();
+		try {
+			list.set(index, element);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Optimistic read with getFromEnds(), which leaves the finger alone
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get(int index) {
+		return read(() -> list.getFromEnds(index));
+	}
+
+	/**
+	 * Under the read lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(T element) {
+		long stamp = lock.readLock();
+		try {
+			return list.indexOf(element);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Optimistic read
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T first() {
+		return read(list::first);
+	}
+
+	/**
+	 * Optimistic read
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T last() {
+		return read(list::last);
+	}
+
+	/**
+	 * Optimistic read of a search bounded by the size seen at the start
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(T target) {
+		return read(() -> list.containsWithin(target, list.size()));
+	}
+
+	/**
+	 * Optimistic read
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Optimistic read
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		long stamp = lock.tryOptimisticRead();
+		int size = list.size();
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				size = list.size();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Under the read lock
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		long stamp = lock.readLock();
+		try {
+			return list.toString();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Fail-fast iterator over the live list, locking per call
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return listIterator(0);
+	}
+
+	/**
+	 * Fail-fast list iterator over the live list, locking per call
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return listIterator(0);
+	}
+
+	/**
+	 * Fail-fast list iterator over the live list, locking per call. Takes
+	 * the write lock to start, since seeking to startingIndex moves the
+	 * backing list's finger.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		long stamp = lock.writeLock();
+		try {
+			return new LockedListIterator(list.listIterator(startingIndex));
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Runs a reader without locking, and again under the read lock if a
+	 * writer got in the way. The reader must write nothing and always
+	 * terminate; a torn read may throw, which is also retried under the
+	 * lock, where any exception is the real one.
+	 * @param reader the read to run
+	 * @return the reader's result from a consistent state
+	 */
+	private <R> R read(Supplier<R> reader) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0L) {
+			try {
+				R result = reader.get();
+				if (lock.validate(stamp)) {
+					return result;
+				}
+			} catch (RuntimeException e) {
+				// torn read, or a real exception; either way decide under the lock
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return reader.get();
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Backing list iterator with every call made under the lock. Moves
+	 * only read the list, so they share the read lock; remove, set and add
+	 * take the write lock.
+	 */
+	private class LockedListIterator implements ListIterator<T> {
+		private final ListIterator<T> iterator;
+
+		/**
+		 * Wraps an iterator of the backing list
+		 * @param iterator the iterator to lock around
+		 */
+		private LockedListIterator(ListIterator<T> iterator) {
+			this.iterator = iterator;
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.hasNext();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.next();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.hasPrevious();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T previous() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.previous();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.nextIndex();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the read lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			long stamp = lock.readLock();
+			try {
+				return iterator.previousIndex();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		/**
+		 * Under the write lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			long stamp = lock.writeLock();
+			try {
+				iterator.remove();
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		/**
+		 * Under the write lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(T element) {
+			long stamp = lock.writeLock();
+			try {
+				iterator.set(element);
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		/**
+		 * Under the write lock
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T element) {
+			long stamp = lock.writeLock();
+			try {
+				iterator.add(element);
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+	}
+}
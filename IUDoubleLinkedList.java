@@ -1,7 +1,25 @@
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Double-linked node implementation of IndexedUnsortedList.
@@ -13,66 +31,192 @@ import java.util.ConcurrentModificationException;
  * @param <T> type to store
  */
 public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
+	// removeAll/retainAll arguments larger than this are copied into a HashSet
+	private static final int LINEAR_LOOKUP_LIMIT = 16;
+	// parallelSort() segments are never cut shorter than this
+	private static final int MIN_SORT_SEGMENT = 1 << 13;
+
 	private Node<T> head, tail;
 	private int size;
 	private int modCount;
+	// Last node found by index. Only trusted while fingerModCount == modCount,
+	// so any add or remove invalidates it without extra bookkeeping.
+	private Node<T> fingerNode;
+	private int fingerIndex;
+	private int fingerModCount;
+	// Removed nodes kept for reuse, chained through next. Never holds elements.
+	private final int nodePoolCapacity;
+	private Node<T> nodePool;
+	private int pooledNodes;
+	// Optional element -> node index. A value is the only Node holding that
+	// element, or a DuplicateNodes set when several nodes hold it.
+	private HashMap<T, Object> hashIndex;
+	// Bumped when nodes leave this list wholesale, invalidating every Handle
+	private int handleEpoch;
+	// Bounded mode. Unbounded lists have maxSize Integer.MAX_VALUE.
+	private final int maxSize;
+	private final EvictionPolicy evictionPolicy;
+	private final Consumer<? super T> evictionListener;
+
+	/**
+	 * What a bounded list does when an insert would take it past its
+	 * maximum size. Named for the usual history list that adds at the rear.
+	 */
+	public enum EvictionPolicy {
+		/** Insert, then remove from head until the list fits */
+		DROP_OLDEST,
+		/** Insert, then remove from tail until the list fits */
+		DROP_NEWEST,
+		/** Refuse the insert: adds throw IllegalStateException and offers return false */
+		REJECT
+	}
 	
 	/** 
 	 * Creates an empty list with head and tail = null
 	 */
 	public IUDoubleLinkedList() {
+		this(0);
+	}
+
+	/**
+	 * Creates an empty list that keeps up to nodePoolCapacity removed
+	 * nodes and reuses them for later adds, so add/remove churn (such as
+	 * addToRear with removeFirst) stops allocating once the pool is warm.
+	 * Pooled nodes hold no element, so removed elements are not leaked.
+	 * @param nodePoolCapacity most removed nodes to keep, 0 disables pooling
+	 * @throws IllegalArgumentException if nodePoolCapacity < 0
+	 */
+	public IUDoubleLinkedList(int nodePoolCapacity) {
+		this(nodePoolCapacity, Integer.MAX_VALUE, EvictionPolicy.REJECT, null);
+	}
+
+	/**
+	 * Creates an empty bounded list that never holds more than maxSize
+	 * elements. An insert into a full list either evicts from an end, in
+	 * the same relink and modification as the insert, or is refused,
+	 * depending on policy. Evicted nodes are reused by the next insert,
+	 * so a full list cycling elements does not allocate.
+	 * @param maxSize most elements the list may hold
+	 * @param policy what to do when an insert would exceed maxSize
+	 * @param evictionListener called with each evicted element after it is
+	 * unlinked, null for none. It must not modify the list.
+	 * @throws IllegalArgumentException if maxSize < 1
+	 * @throws NullPointerException if policy is null
+	 */
+	public IUDoubleLinkedList(int maxSize, EvictionPolicy policy, Consumer<? super T> evictionListener) {
+		this(1, maxSize, policy, evictionListener);
+	}
+
+	/**
+	 * Creates an empty list with the given pool capacity and bound
+	 * @param nodePoolCapacity most removed nodes to keep
+	 * @param maxSize most elements the list may hold
+	 * @param policy what to do when an insert would exceed maxSize
+	 * @param evictionListener called with each evicted element, may be null
+	 */
+	private IUDoubleLinkedList(int nodePoolCapacity, int maxSize, EvictionPolicy policy,
+			Consumer<? super T> evictionListener) {
+		if (nodePoolCapacity < 0) {
+			throw new IllegalArgumentException("nodePoolCapacity must not be negative");
+		}
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize must be at least 1");
+		}
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.maxSize = maxSize;
+		this.evictionPolicy = policy;
+		this.evictionListener = evictionListener;
 		head = tail = null;
 		size = 0;
 		modCount = 0;
+		this.nodePoolCapacity = nodePoolCapacity;
+		nodePool = null;
+		pooledNodes = 0;
+		hashIndex = null;
+		handleEpoch = 0;
+	}
+
+	/**
+	 * Creates a list holding the elements of a collection, in iteration
+	 * order, built as one node chain with addAll()
+	 * @param elements the elements to copy
+	 * @throws NullPointerException if elements is null
+	 */
+	public IUDoubleLinkedList(Collection<? extends T> elements) {
+		this(0);
+		addAll(elements);
 	}
 
 	/**
-	 * Uses a new DLLIterator with the add method to place the
-	 * element at the front of the list.
+	 * Creates a list holding the elements of an array, in order. Chains
+	 * the nodes up in one pass over the array and links the run in with a
+	 * single structural modification, like addAll(int, Iterable). The
+	 * array is only read and never handed on, so it can not be polluted
+	 * through this method.
+	 * @param <T> type to store
+	 * @param elements the elements to copy
+	 * @return a new list of the elements
+	 * @throws NullPointerException if elements is null
+	 */
+	@SafeVarargs
+	public static <T> IUDoubleLinkedList<T> fromArray(T... elements) {
+		IUDoubleLinkedList<T> list = new IUDoubleLinkedList<T>();
+		if (elements.length == 0) {
+			return list;
+		}
+		Node<T> first = list.takeNode(elements[0]);
+		Node<T> last = first;
+		for (int i = 1; i < elements.length; i++) {
+			Node<T> node = list.takeNode(elements[i]);
+			last.setNext(node);
+			node.setPrevious(last);
+			last = node;
+		}
+		list.linkChain(first, last, elements.length, null);
+		return list;
+	}
+
+	/**
+	 * Links a new node directly in front of head in O(1)
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void addToFront(T element) {
-		ListIterator<T> iterator = new DLLIterator();
-		iterator.add(element);
+		linkBefore(element, head);
 	}
 
 	/**
-	 * Uses a new DLLIterator starting at end of the list 
-	 * with the add method to place the element at the front of the list.
+	 * Links a new node directly behind tail in O(1)
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void addToRear(T element) {
-		ListIterator<T> iterator = new DLLIterator(size);
-		iterator.add(element);
+		linkBefore(element, null);
 	}
 
 	/**
-	 * Uses the addToRear() method, which has the same functionality.
+	 * Same as addToRear(), links directly behind tail in O(1)
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void add(T element) {
-		addToRear(element);
+		linkBefore(element, null);
 	}
 
 	/**
-	 * Uses the list iterator to search and add an element after a target
-	 * element
+	 * Finds the first node matching the target, through the hash index
+	 * when it is enabled, and links the element directly after it
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void addAfter(T element, T target) { 
-		ListIterator<T> iterator = new DLLIterator();
-		Boolean isFound = false;
-		while (!isFound && iterator.hasNext()) {
-			isFound = iterator.next() == target;
-		}
-		if (!isFound) {
+		Node<T> targetNode = findNode(target);
+		if (targetNode == null) {
 			throw new NoSuchElementException();
 		}
-		iterator.add(element);
+		linkBefore(element, targetNode.getNext());
 	}
 
 	/**
@@ -89,7 +233,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 	}
 
 	/**
-	 * Uses the list iterator to remove the first node/element
+	 * Unlinks the head node directly in O(1)
 	 * {@inheritDoc}
 	 */
 	@Override
@@ -97,217 +241,2887 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 		if (isEmpty()) {
 			throw new NoSuchElementException();
 		}
-		ListIterator<T> iterator = new DLLIterator();
+		return unlink(head);
+	}
+
+	/**
+	 * Unlinks the tail node directly in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return unlink(tail);
+	}
+
+	/**
+	 * Finds the first node matching the element, through the hash index
+	 * when it is enabled, and unlinks it directly
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(T element) { 
+		Node<T> node = findNode(element);
+		if (node == null) {
+			throw new NoSuchElementException();
+		}
+		return unlink(node);
+	}
+
+	/**
+	 * Uses the list iterator at an index to remove said element
+	 * at that index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new DLLIterator(index);
 		T retVal = iterator.next();
 		iterator.remove();
 		return retVal;
 	}
 
 	/**
-	 * Uses the list iterator starting at the end with previous to
-	 * remove the final node/element
+	 * Unlinks every node in one pass, returning them to the pool while
+	 * it has room. Counts as a single structural modification.
 	 * {@inheritDoc}
 	 */
 	@Override
-	public T removeLast() {
+	public void clear() {
+		if (hashIndex != null) {
+			hashIndex.clear();
+		}
+		Node<T> currentNode = head;
+		while (currentNode != null) {
+			Node<T> nextNode = currentNode.getNext();
+			releaseNode(currentNode);
+			currentNode = nextNode;
+		}
+		head = tail = null;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Seeks to the node at an index and changes the value associated
+	 * with it. Counts as a modification like ListIterator set(), but the
+	 * finger stays valid since no nodes moved.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(int index, T element) { 
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node<T> node = nodeAt(index);
+		indexRemove(node);
+		node.setElement(element);
+		indexAdd(node);
+		modCount++;
+		fingerModCount = modCount;
+	}
+
+	/**
+	 * Seeks to the node at an index to retrieve its element. Sequential
+	 * or nearby indexes are found from the finger in a few steps.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return nodeAt(index).getElement();
+	}
+
+	/**
+	 * Retrieves the element at an index like get(), but walks from head or
+	 * tail only, never reading or moving the finger, so it writes nothing.
+	 * Several threads may call it at once under a shared lock, as
+	 * ConcurrentIndexedList does. It takes at most size/2 steps even if
+	 * the links change underneath it, though such a torn read may return
+	 * a wrong element or throw.
+	 * @param index position of the element
+	 * @return the element at index
+	 * @throws IndexOutOfBoundsException if index < 0 || index >= size
+	 */
+	T getFromEnds(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node<T> currentNode;
+		if (index < (size >> 1)) {
+			currentNode = head;
+			for (int i = 0; i < index; i++) {
+				currentNode = currentNode.getNext();
+			}
+		} else {
+			currentNode = tail;
+			for (int i = size - 1; i > index; i--) {
+				currentNode = currentNode.getPrevious();
+			}
+		}
+		return currentNode.getElement();
+	}
+
+	/**
+	 * Checks whether the target is among the first maxSteps elements,
+	 * searching from head without the hash index. Like getFromEnds(), it writes
+	 * nothing and always terminates, even on a list that is changing.
+	 * @param target the element to look for
+	 * @param maxSteps most elements to examine, size() to search them all
+	 * @return true if the target was found
+	 */
+	boolean containsWithin(T target, int maxSteps) {
+		Node<T> currentNode = head;
+		for (int i = 0; i < maxSteps && currentNode != null; i++) {
+			if (currentNode.getElement().equals(target)) {
+				return true;
+			}
+			currentNode = currentNode.getNext();
+		}
+		return false;
+	}
+
+	/**
+	 * Searches forward from head, counting as it goes, so the index comes
+	 * out of the same pass that finds the element. With the hash index
+	 * enabled an absent element returns -1 without walking the list.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(T element) {
+		if (hashIndex != null && !hashIndex.containsKey(element)) {
+			return -1;
+		}
+		int currentIndex = 0;
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			if (currentNode.getElement().equals(element)) {
+				return currentIndex;
+			}
+			currentIndex++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Retrieves the first node's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T first() {
 		if (isEmpty()) {
-			throw new NoSuchElementException();
+            throw new NoSuchElementException();
+        }
+        return head.getElement();
+	}
+
+	/**
+	 * Retrieves the last node's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T last() {
+		if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tail.getElement();
+	}
+
+	/**
+	 * Looks the target up in the hash index when it is enabled, otherwise
+	 * searches the nodes for it
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(T target) {
+		if (hashIndex != null) {
+			return hashIndex.containsKey(target);
+		}
+		return findNode(target) != null;
+	}
+
+	/**
+	 * Starts maintaining a hash index from each element to the node(s)
+	 * holding it, built from the current contents in O(n). While enabled,
+	 * contains() is O(1) expected, remove(T) and addAfter() find a unique
+	 * element in O(1) expected, and indexOf() returns -1 for a missing
+	 * element at once. An element stored more than once is still found by
+	 * a search from head, since the index does not know which copy is first.
+	 * Every add, remove and set pays one extra hash lookup and update,
+	 * and the index costs one map entry per distinct element.
+	 * Elements must have hashCode() consistent with equals().
+	 */
+	public void enableHashIndex() {
+		if (hashIndex != null) {
+			return;
+		}
+		hashIndex = new HashMap<T, Object>();
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			indexAdd(currentNode);
+		}
+	}
+
+	/**
+	 * Stops maintaining the hash index and frees it
+	 */
+	public void disableHashIndex() {
+		hashIndex = null;
+	}
+
+	/**
+	 * Returns whether the hash index is being maintained
+	 * @return true if enableHashIndex() is in effect
+	 */
+	public boolean isHashIndexEnabled() {
+		return hashIndex != null;
+	}
+
+	/**
+	 * Adds every element of the given Iterable to the rear of this list,
+	 * in iteration order. See addAll(int, Iterable).
+	 * @param elements the elements to add
+	 */
+	public void addAll(Iterable<? extends T> elements) {
+		addAll(size, elements);
+	}
+
+	/**
+	 * Inserts every element of the given Iterable at the specified index,
+	 * in iteration order. The nodes are chained up first and then spliced
+	 * in with one seek and one structural modification, so loading k
+	 * elements is O(k) plus the seek. Adding a list to itself is allowed.
+	 * If the source's iterator throws, the nodes taken so far go back to
+	 * the pool and the list is left unchanged.
+	 * @param index the index to insert the first element at
+	 * @param elements the elements to add
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+	 */
+	public void addAll(int index, Iterable<? extends T> elements) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Node<T> first = null;
+		Node<T> last = null;
+		int count = 0;
+		boolean chained = false;
+		try {
+			for (T element : elements) {
+				Node<T> node = takeNode(element);
+				if (first == null) {
+					first = node;
+				} else {
+					last.setNext(node);
+					node.setPrevious(last);
+				}
+				last = node;
+				count++;
+			}
+			chained = true;
+		} finally {
+			if (!chained) {
+				// the source threw, so hand the nodes taken so far back
+				releaseChain(first);
+			}
+		}
+		if (count == 0) {
+			return;
+		}
+		if (rejects(count)) {
+			releaseChain(first);
+			throw new IllegalStateException("list is full");
+		}
+		linkChain(first, last, count, nodeAt(index));
+		if (hashIndex != null) {
+			for (Node<T> node = first; node != last.getNext(); node = node.getNext()) {
+				indexAdd(node);
+			}
+		}
+		evictOverflow();
+	}
+
+	/**
+	 * Moves every node of other to the rear of this list. See splice().
+	 * @param other the list to empty into this one
+	 * @throws IllegalArgumentException if other is this list
+	 */
+	public void transferAll(IUDoubleLinkedList<T> other) {
+		splice(size, other);
+	}
+
+	/**
+	 * Moves every node of other into this list at the specified index by
+	 * relinking other's head and tail, without copying elements or
+	 * allocating nodes. O(1) plus the seek to index, and O(k) more only
+	 * when this list's hash index is enabled. other is left empty. Both
+	 * lists count a structural modification, so outstanding iterators on
+	 * either fail fast, and handles issued by other become invalid.
+	 * @param index the index to insert other's first element at
+	 * @param other the list to empty into this one
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+	 * @throws IllegalArgumentException if other is this list
+	 */
+	public void splice(int index, IUDoubleLinkedList<T> other) {
+		if (other == this) {
+			throw new IllegalArgumentException("cannot splice a list into itself");
+		}
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (other.isEmpty()) {
+			return;
+		}
+		checkRoom(other.size);
+		Node<T> first = other.head;
+		Node<T> last = other.tail;
+		int count = other.size;
+		other.head = other.tail = null;
+		other.size = 0;
+		other.modCount++;
+		other.handleEpoch++;
+		if (other.hashIndex != null) {
+			other.hashIndex.clear();
+		}
+		linkChain(first, last, count, nodeAt(index));
+		if (hashIndex != null) {
+			for (Node<T> node = first; node != last.getNext(); node = node.getNext()) {
+				indexAdd(node);
+			}
+		}
+		evictOverflow();
+	}
+
+	/**
+	 * Removes the elements from fromIndex, inclusive, to toIndex,
+	 * exclusive. Seeks to fromIndex once, then unlinks the whole run with
+	 * a single relink, so it is O(k) plus the seek for k removed elements
+	 * and counts as one structural modification.
+	 * @param fromIndex index of the first element to remove
+	 * @param toIndex index after the last element to remove
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+	 */
+	public void removeRange(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (fromIndex == toIndex) {
+			return;
+		}
+		Node<T> currentNode = nodeAt(fromIndex);
+		Node<T> predecessor = currentNode.getPrevious();
+		for (int i = fromIndex; i < toIndex; i++) {
+			Node<T> nextNode = currentNode.getNext();
+			releaseNode(currentNode);
+			currentNode = nextNode;
+		}
+		if (predecessor == null) {
+			head = currentNode;
+		} else {
+			predecessor.setNext(currentNode);
+		}
+		if (currentNode == null) {
+			tail = predecessor;
+		} else {
+			currentNode.setPrevious(predecessor);
+		}
+		size -= toIndex - fromIndex;
+		modCount++;
+	}
+
+	/**
+	 * Removes every element the filter accepts in a single pass over the
+	 * nodes, relinking around each one as it is found. Counts as one
+	 * structural modification however many elements are removed.
+	 * @param filter returns true for elements to remove
+	 * @return true if any element was removed
+	 * @throws NullPointerException if filter is null
+	 * @throws ConcurrentModificationException if filter modifies this list
+	 */
+	public boolean removeIf(Predicate<? super T> filter) {
+		if (filter == null) {
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		int removed = 0;
+		try {
+			Node<T> currentNode = head;
+			// bounded by the starting size so a filter that adds can not loop forever
+			for (int i = size; i > 0 && currentNode != null; i--) {
+				Node<T> nextNode = currentNode.getNext();
+				if (filter.test(currentNode.getElement())) {
+					if (modCount != expectedModCount) {
+						throw new ConcurrentModificationException();
+					}
+					Node<T> predecessor = currentNode.getPrevious();
+					if (predecessor == null) {
+						head = nextNode;
+					} else {
+						predecessor.setNext(nextNode);
+					}
+					if (nextNode == null) {
+						tail = predecessor;
+					} else {
+						nextNode.setPrevious(predecessor);
+					}
+					releaseNode(currentNode);
+					size--;
+					removed++;
+				}
+				currentNode = nextNode;
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		} finally {
+			if (removed > 0) {
+				modCount++;
+			}
+		}
+		return removed > 0;
+	}
+
+	/**
+	 * Removes every element that is contained in c, in one pass. See
+	 * removeIf().
+	 * @param c elements to remove
+	 * @return true if any element was removed
+	 * @throws NullPointerException if c is null
+	 */
+	public boolean removeAll(Collection<?> c) {
+		Collection<?> lookup = lookupOf(c);
+		return removeIf(element -> lookup.contains(element));
+	}
+
+	/**
+	 * Removes every element that is not contained in c, in one pass. See
+	 * removeIf().
+	 * @param c elements to keep
+	 * @return true if any element was removed
+	 * @throws NullPointerException if c is null
+	 */
+	public boolean retainAll(Collection<?> c) {
+		Collection<?> lookup = lookupOf(c);
+		return removeIf(element -> !lookup.contains(element));
+	}
+
+	/**
+	 * Replaces every element with the result of applying operator to it,
+	 * in one pass over the nodes. See setRange().
+	 * @param operator the function to apply to each element
+	 * @throws NullPointerException if operator is null
+	 * @throws ConcurrentModificationException if operator modifies this list
+	 */
+	public void replaceAll(UnaryOperator<T> operator) {
+		setRange(0, size, operator);
+	}
+
+	/**
+	 * Replaces the elements from fromIndex, inclusive, to toIndex,
+	 * exclusive, with the result of applying operator to each, seeking to
+	 * fromIndex once. Unlike set(), this only rewrites values and is not
+	 * counted as a modification, so open iterators and the finger stay
+	 * valid, the way java.util lists treat set().
+	 * @param fromIndex index of the first element to replace
+	 * @param toIndex index after the last element to replace
+	 * @param operator the function to apply to each element
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+	 * @throws NullPointerException if operator is null
+	 * @throws ConcurrentModificationException if operator modifies this list
+	 */
+	public void setRange(int fromIndex, int toIndex, UnaryOperator<T> operator) {
+		if (operator == null) {
+			throw new NullPointerException();
+		}
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException();
+		}
+		int expectedModCount = modCount;
+		Node<T> currentNode = nodeAt(fromIndex);
+		for (int i = fromIndex; i < toIndex; i++) {
+			T element = operator.apply(currentNode.getElement());
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			indexRemove(currentNode);
+			currentNode.setElement(element);
+			indexAdd(currentNode);
+			currentNode = currentNode.getNext();
+		}
+	}
+
+	/**
+	 * Replaces the elements from fromIndex, inclusive, to toIndex,
+	 * exclusive, with element. See setRange().
+	 * @param fromIndex index of the first element to replace
+	 * @param toIndex index after the last element to replace
+	 * @param element the element to store at each index
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+	 */
+	public void fill(int fromIndex, int toIndex, T element) {
+		setRange(fromIndex, toIndex, oldElement -> element);
+	}
+
+	/**
+	 * Sorts this list with a stable bottom-up merge sort that relinks the
+	 * existing nodes, so it allocates no nodes or arrays. O(n log n) time
+	 * and O(1) extra space. Only next links are used while merging; the
+	 * previous links, head and tail are rebuilt in one pass at the end.
+	 * Counts as one structural modification, even when it fails, so open
+	 * iterators and the finger never outlive the relinking. If the
+	 * comparator throws, the list still holds every element, in an
+	 * unspecified order. If the comparator modifies the list, what the
+	 * list holds afterwards is unspecified, but size, tail and the hash
+	 * index agree with its nodes.
+	 * @param comparator the order to sort by, null for natural ordering
+	 * @throws ClassCastException if comparator is null and the elements are not Comparable
+	 * @throws ConcurrentModificationException if comparator modifies this list
+	 */
+	@SuppressWarnings("unchecked")
+	public void sort(Comparator<? super T> comparator) {
+		Comparator<? super T> order = (comparator != null) ? comparator
+				: (Comparator<? super T>) Comparator.naturalOrder();
+		int expectedModCount = modCount;
+		Node<T> sentinel = new Node<T>(null);
+		sentinel.setNext(head);
+		try {
+			sortChain(sentinel, order);
+		} finally {
+			head = sentinel.getNext();
+			relinkFromHead();
+			if (modCount != expectedModCount) {
+				rebuildHashIndex();
+			}
+			modCount++;
+		}
+		if (modCount != expectedModCount + 1) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * Sorts this list like sort(), giving the same stable order, but cuts
+	 * the node chain into segments that are sorted concurrently and then
+	 * merged pairwise by relinking. Runs in the ForkJoinPool of the calling
+	 * thread, or the common pool when called from outside one. Lists too
+	 * short to give every worker a few segments are sorted sequentially.
+	 * If the comparator throws, the list still holds every element, in an
+	 * unspecified order. The list must not be touched by other threads
+	 * while it is being sorted.
+	 * @param comparator the order to sort by, null for natural ordering
+	 * @throws ClassCastException if comparator is null and the elements are not Comparable
+	 */
+	@SuppressWarnings("unchecked")
+	public void parallelSort(Comparator<? super T> comparator) {
+		int parallelism = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism()
+				: ForkJoinPool.getCommonPoolParallelism();
+		int segmentCount = Math.min(parallelism * 4, size / MIN_SORT_SEGMENT);
+		if (parallelism < 2 || segmentCount < 2) {
+			sort(comparator);
+			return;
+		}
+		Comparator<? super T> order = (comparator != null) ? comparator
+				: (Comparator<? super T>) Comparator.naturalOrder();
+		Node<T>[] segments = (Node<T>[]) new Node<?>[segmentCount];
+		Node<T> rest = head;
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Node<T>(null);
+			segments[i].setNext(rest);
+			rest = cutAfter(rest, (i < segmentCount - 1) ? size / segmentCount : size);
+		}
+		try {
+			new SortTask<T>(segments, 0, segmentCount, order).invoke();
+		} finally {
+			// segments not merged yet still lead their own chains; after a
+			// full merge they are all empty and nothing is walked
+			Node<T> last = segments[0];
+			for (int i = 1; i < segmentCount; i++) {
+				if (segments[i].getNext() != null) {
+					last = lastOf(last);
+					last.setNext(segments[i].getNext());
+					segments[i].setNext(null);
+				}
+			}
+			head = segments[0].getNext();
+			relinkFromHead();
+			modCount++;
+		}
+	}
+
+	/**
+	 * Links the element in front of head in O(1). Queue style add that
+	 * reports success instead of throwing.
+	 * @param element the element to add
+	 * @return true if the element was added, false if a REJECT bounded list is full
+	 * @throws NullPointerException if element is null, so null can mean empty to pollFirst()
+	 */
+	public boolean offerFirst(T element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		if (rejects(1)) {
+			return false;
+		}
+		linkBefore(element, head);
+		return true;
+	}
+
+	/**
+	 * Links the element behind tail in O(1). Queue style add that reports
+	 * success instead of throwing.
+	 * @param element the element to add
+	 * @return true if the element was added, false if a REJECT bounded list is full
+	 * @throws NullPointerException if element is null, so null can mean empty to pollLast()
+	 */
+	public boolean offerLast(T element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		if (rejects(1)) {
+			return false;
+		}
+		linkBefore(element, null);
+		return true;
+	}
+
+	/**
+	 * Unlinks head in O(1), returning null instead of throwing when empty
+	 * @return the first element, or null if this list is empty
+	 */
+	public T pollFirst() {
+		return (head == null) ? null : unlink(head);
+	}
+
+	/**
+	 * Unlinks tail in O(1), returning null instead of throwing when empty
+	 * @return the last element, or null if this list is empty
+	 */
+	public T pollLast() {
+		return (tail == null) ? null : unlink(tail);
+	}
+
+	/**
+	 * Retrieves head's element, returning null instead of throwing when empty
+	 * @return the first element, or null if this list is empty
+	 */
+	public T peekFirst() {
+		return (head == null) ? null : head.getElement();
+	}
+
+	/**
+	 * Retrieves tail's element, returning null instead of throwing when empty
+	 * @return the last element, or null if this list is empty
+	 */
+	public T peekLast() {
+		return (tail == null) ? null : tail.getElement();
+	}
+
+	/**
+	 * Stack push, same as addToFront() except that, like offerFirst(), it
+	 * rejects null, so null from pollFirst() and peekFirst() always means
+	 * empty
+	 * @param element the element to push
+	 * @throws NullPointerException if element is null
+	 * @throws IllegalStateException if a REJECT bounded list is full
+	 */
+	public void push(T element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		addToFront(element);
+	}
+
+	/**
+	 * Stack pop, same as removeFirst()
+	 * @return the first element
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	public T pop() {
+		return removeFirst();
+	}
+
+	/**
+	 * Returns this list seen as a java.util.Deque, for code such as
+	 * executors and schedulers that expects one. The list itself can not
+	 * implement Deque because its add(T) and remove(T) return types clash
+	 * with Collection's. Every Deque method maps straight onto this
+	 * list's nodes, with head as the front. Null elements are rejected.
+	 * @return a Deque view of this list
+	 */
+	public Deque<T> asDeque() {
+		return new DequeView();
+	}
+
+	/**
+	 * Reverses the order of this list in place by swapping each node's
+	 * next and previous links, then head and tail. One pass, no
+	 * allocation, and counts as one structural modification.
+	 */
+	public void reverse() {
+		Node<T> currentNode = head;
+		while (currentNode != null) {
+			Node<T> nextNode = currentNode.getNext();
+			currentNode.setNext(currentNode.getPrevious());
+			currentNode.setPrevious(nextNode);
+			currentNode = nextNode;
+		}
+		Node<T> oldHead = head;
+		head = tail;
+		tail = oldHead;
+		modCount++;
+	}
+
+	/**
+	 * Returns an iterator over this list from last to first. It starts at
+	 * tail in O(1) and follows previous links, and its remove() removes
+	 * from this list.
+	 * @return an iterator in reverse order
+	 */
+	public Iterator<T> descendingIterator() {
+		return new DescendingIterator(0);
+	}
+
+	/**
+	 * Returns a view of this list in reverse order. Index i of the view is
+	 * index size - 1 - i of this list, and changes through either show up
+	 * in both. The view keeps no state of its own, so it never goes stale.
+	 * Its iterators start at tail in O(1) and walk previous links.
+	 * @return a reversed view of this list
+	 */
+	public IndexedUnsortedList<T> reversed() {
+		return new ReversedList();
+	}
+
+	/**
+	 * Returns a view of the elements from fromIndex, inclusive, to
+	 * toIndex, exclusive. Changes made through the view show up in this
+	 * list and the other way around, but once this list is changed other
+	 * than through the view, the view fails fast with a
+	 * ConcurrentModificationException. clear() on the view removes the
+	 * range with removeRange().
+	 * @param fromIndex index of the view's first element
+	 * @param toIndex index after the view's last element
+	 * @return a list view of the range
+	 * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > size or fromIndex > toIndex
+	 */
+	public IndexedUnsortedList<T> subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new SubList(fromIndex, toIndex - fromIndex);
+	}
+
+	/**
+	 * Adds the element to the front of this list and returns a handle to
+	 * its position, for O(1) removal, insertion and moves later on.
+	 * @param element the element to be added to the front of this list
+	 * @return a handle to the new element
+	 */
+	public Handle<T> addToFrontHandle(T element) {
+		return linkHandle(element, head);
+	}
+
+	/**
+	 * Adds the element to the rear of this list and returns a handle to
+	 * its position, for O(1) removal, insertion and moves later on.
+	 * @param element the element to be added to the rear of this list
+	 * @return a handle to the new element
+	 */
+	public Handle<T> addToRearHandle(T element) {
+		return linkHandle(element, null);
+	}
+
+	/**
+	 * Inserts the element directly after the handle's element in O(1)
+	 * @param handle a valid handle from this list
+	 * @param element the element to insert
+	 * @return a handle to the new element
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was removed
+	 */
+	public Handle<T> insertAfter(Handle<T> handle, T element) {
+		return linkHandle(element, checkHandle(handle).getNext());
+	}
+
+	/**
+	 * Inserts the element directly before the handle's element in O(1)
+	 * @param handle a valid handle from this list
+	 * @param element the element to insert
+	 * @return a handle to the new element
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was removed
+	 */
+	public Handle<T> insertBefore(Handle<T> handle, T element) {
+		return linkHandle(element, checkHandle(handle));
+	}
+
+	/**
+	 * Removes the handle's element in O(1). The handle becomes invalid.
+	 * @param handle a valid handle from this list
+	 * @return the removed element
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was already removed
+	 */
+	public T removeHandle(Handle<T> handle) {
+		return unlink(checkHandle(handle));
+	}
+
+	/**
+	 * Moves the handle's element to the front of this list in O(1)
+	 * @param handle a valid handle from this list
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was removed
+	 */
+	public void moveToFront(Handle<T> handle) {
+		Node<T> node = checkHandle(handle);
+		if (node != head) {
+			detachNode(node);
+			linkNode(node, head);
+		}
+	}
+
+	/**
+	 * Moves the handle's element to the rear of this list in O(1)
+	 * @param handle a valid handle from this list
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was removed
+	 */
+	public void moveToBack(Handle<T> handle) {
+		Node<T> node = checkHandle(handle);
+		if (node != tail) {
+			detachNode(node);
+			linkNode(node, null);
+		}
+	}
+
+	/**
+	 * Checks if the list has no nodes
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks the number of nodes present
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * A loop that retrieves each node's value in the list with proper formatting
+	 * {@inheritDoc}
+	 */
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+		Node<T> currentNode = head;
+        StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        while (currentNode != null) {
+            b.append(String.valueOf(currentNode.getElement()));
+            b.append(", ");
+			currentNode = currentNode.getNext();
+        }
+		b.delete(b.length()-2, b.length());
+		b.append(']');
+        return b.toString();
+    }
+
+	/**
+	 * Finds the node at the given index, walking from whichever of head,
+	 * tail or the finger (last node found) is closest. The found node
+	 * becomes the new finger.
+	 * @param index position of the node, 0 to size inclusive
+	 * @return the node at index, or null when index == size
+	 */
+	private Node<T> nodeAt(int index) {
+		if (index == size) {
+			return null;
+		}
+		Node<T> currentNode;
+		int currentIndex;
+		if (index < (size >> 1)) {
+			currentNode = head;
+			currentIndex = 0;
+		} else {
+			currentNode = tail;
+			currentIndex = size - 1;
+		}
+		if (fingerModCount == modCount && fingerNode != null
+				&& Math.abs(index - fingerIndex) < Math.abs(index - currentIndex)) {
+			currentNode = fingerNode;
+			currentIndex = fingerIndex;
+		}
+		while (currentIndex < index) {
+			currentNode = currentNode.getNext();
+			currentIndex++;
+		}
+		while (currentIndex > index) {
+			currentNode = currentNode.getPrevious();
+			currentIndex--;
+		}
+		fingerNode = currentNode;
+		fingerIndex = index;
+		fingerModCount = modCount;
+		return currentNode;
+	}
+
+	/**
+	 * Takes a node from the pool, or allocates one when the pool is empty.
+	 * The node is entered in the hash index, so it must be linked next.
+	 * @param element the element to store in the node
+	 * @return an unlinked node holding element
+	 */
+	private Node<T> newNode(T element) {
+		Node<T> node = takeNode(element);
+		indexAdd(node);
+		return node;
+	}
+
+	/**
+	 * Takes a node from the pool, or allocates one when the pool is empty,
+	 * without entering it in the hash index
+	 * @param element the element to store in the node
+	 * @return an unlinked node holding element
+	 */
+	private Node<T> takeNode(T element) {
+		Node<T> node = nodePool;
+		if (node == null) {
+			return new Node<T>(element);
+		}
+		nodePool = node.getNext();
+		pooledNodes--;
+		node.setNext(null);
+		node.setElement(element);
+		return node;
+	}
+
+	/**
+	 * Releases every node of an unlinked, null terminated chain
+	 * @param first first node of the chain, null for none
+	 */
+	private void releaseChain(Node<T> first) {
+		while (first != null) {
+			Node<T> nextNode = first.getNext();
+			releaseNode(first);
+			first = nextNode;
+		}
+	}
+
+	/**
+	 * Returns the first pooled node, so tests in this package can walk the
+	 * pool through next links
+	 * @return the most recently pooled node, null if the pool is empty
+	 */
+	Node<T> nodePoolHead() {
+		return nodePool;
+	}
+
+	/**
+	 * Drops an unlinked node from the hash index, clears it and returns it
+	 * to the pool if there is room. Handle nodes are never pooled, so a
+	 * stale handle can not end up pointing at a reused node.
+	 * Callers must have read everything they need from the node first.
+	 * @param node a node no longer linked into the list
+	 */
+	private void releaseNode(Node<T> node) {
+		indexRemove(node);
+		node.setElement(null);
+		node.setPrevious(null);
+		if (pooledNodes < nodePoolCapacity && !(node instanceof HandleNode)) {
+			node.setNext(nodePool);
+			nodePool = node;
+			pooledNodes++;
+		} else {
+			node.setNext(null);
+		}
+	}
+
+	/**
+	 * Finds the first node whose element equals the given one. Uses the
+	 * hash index when enabled, falling back to a search from head when the
+	 * element is stored more than once.
+	 * @param element the element to look for
+	 * @return the first matching node, or null if there is none
+	 */
+	private Node<T> findNode(T element) {
+		if (hashIndex != null) {
+			Object entry = hashIndex.get(element);
+			if (entry == null) {
+				return null;
+			}
+			if (entry instanceof Node) {
+				@SuppressWarnings("unchecked")
+				Node<T> node = (Node<T>) entry;
+				return node;
+			}
+		}
+		Node<T> currentNode = head;
+		while (currentNode != null && !currentNode.getElement().equals(element)) {
+			currentNode = currentNode.getNext();
+		}
+		return currentNode;
+	}
+
+	/**
+	 * Finds the last node whose element equals the given one, searching
+	 * back from tail
+	 * @param element the element to look for
+	 * @return the last matching node, or null if there is none
+	 */
+	private Node<T> findLastNode(T element) {
+		if (hashIndex != null && !hashIndex.containsKey(element)) {
+			return null;
+		}
+		Node<T> currentNode = tail;
+		while (currentNode != null && !currentNode.getElement().equals(element)) {
+			currentNode = currentNode.getPrevious();
+		}
+		return currentNode;
+	}
+
+	/**
+	 * Records a node under its element in the hash index, if enabled
+	 * @param node a node that is being linked or was given a new element
+	 */
+	@SuppressWarnings("unchecked")
+	private void indexAdd(Node<T> node) {
+		if (hashIndex == null) {
+			return;
+		}
+		T key = node.getElement();
+		Object entry = hashIndex.putIfAbsent(key, node);
+		if (entry instanceof DuplicateNodes) {
+			((DuplicateNodes<T>) entry).put(node, Boolean.TRUE);
+		} else if (entry != null) {
+			DuplicateNodes<T> duplicates = new DuplicateNodes<T>();
+			duplicates.put((Node<T>) entry, Boolean.TRUE);
+			duplicates.put(node, Boolean.TRUE);
+			hashIndex.put(key, duplicates);
+		}
+	}
+
+	/**
+	 * Forgets a node in the hash index, if enabled
+	 * @param node a node that is being unlinked or is about to change element
+	 */
+	@SuppressWarnings("unchecked")
+	private void indexRemove(Node<T> node) {
+		if (hashIndex == null) {
+			return;
+		}
+		T key = node.getElement();
+		Object entry = hashIndex.get(key);
+		if (entry == node) {
+			hashIndex.remove(key);
+		} else if (entry instanceof DuplicateNodes) {
+			DuplicateNodes<T> duplicates = (DuplicateNodes<T>) entry;
+			duplicates.remove(node);
+			if (duplicates.size() == 1) {
+				hashIndex.put(key, duplicates.keySet().iterator().next());
+			}
+		}
+	}
+
+	/**
+	 * Links a new node in front of successor without building an iterator.
+	 * Counts as one structural modification.
+	 * @param element the element to store in the new node
+	 * @param successor node to follow the new one, null to link behind tail
+	 * @return the new node
+	 */
+	private Node<T> linkBefore(T element, Node<T> successor) {
+		checkRoom(1);
+		Node<T> newNode = newNode(element);
+		linkNode(newNode, successor);
+		evictOverflow();
+		return newNode;
+	}
+
+	/**
+	 * Unlinks a node without building an iterator and releases it.
+	 * Counts as one structural modification.
+	 * @param node a node linked into this list
+	 * @return the element the node held
+	 */
+	private T unlink(Node<T> node) {
+		T retVal = node.getElement();
+		detachNode(node);
+		releaseNode(node);
+		return retVal;
+	}
+
+	/**
+	 * Links an unlinked node in front of successor. Does not touch the
+	 * hash index. Counts as one structural modification.
+	 * @param node the node to link
+	 * @param successor node to follow it, null to link behind tail
+	 */
+	private void linkNode(Node<T> node, Node<T> successor) {
+		Node<T> predecessor = (successor == null) ? tail : successor.getPrevious();
+		node.setPrevious(predecessor);
+		node.setNext(successor);
+		if (predecessor == null) {
+			head = node;
+		} else {
+			predecessor.setNext(node);
+		}
+		if (successor == null) {
+			tail = node;
+		} else {
+			successor.setPrevious(node);
+		}
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Unlinks a node and clears its links, leaving its element and hash
+	 * index entry alone. Counts as one structural modification.
+	 * @param node a node linked into this list
+	 */
+	private void detachNode(Node<T> node) {
+		Node<T> predecessor = node.getPrevious();
+		Node<T> successor = node.getNext();
+		if (predecessor == null) {
+			head = successor;
+		} else {
+			predecessor.setNext(successor);
+		}
+		if (successor == null) {
+			tail = predecessor;
+		} else {
+			successor.setPrevious(predecessor);
+		}
+		node.setPrevious(null);
+		node.setNext(null);
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Links an already chained run of nodes, first through last, in front
+	 * of successor. Counts as one structural modification.
+	 * @param first first node of the run, previous ignored
+	 * @param last last node of the run, next ignored
+	 * @param count number of nodes in the run
+	 * @param successor node to follow the run, null to link behind tail
+	 */
+	private void linkChain(Node<T> first, Node<T> last, int count, Node<T> successor) {
+		Node<T> predecessor = (successor == null) ? tail : successor.getPrevious();
+		first.setPrevious(predecessor);
+		last.setNext(successor);
+		if (predecessor == null) {
+			head = first;
+		} else {
+			predecessor.setNext(first);
+		}
+		if (successor == null) {
+			tail = last;
+		} else {
+			successor.setPrevious(last);
+		}
+		size += count;
+		modCount++;
+	}
+
+	/**
+	 * Picks a collection that answers contains() quickly. Sets and small
+	 * collections are used as they are; anything else is copied into a
+	 * HashSet so a bulk removal stays O(n + m) rather than O(n * m).
+	 * @param c the argument of removeAll() or retainAll()
+	 * @return c, or a HashSet holding its elements
+	 */
+	private static Collection<?> lookupOf(Collection<?> c) {
+		if (c instanceof Set || c.size() <= LINEAR_LOOKUP_LIMIT) {
+			return c;
+		}
+		return new HashSet<Object>(c);
+	}
+
+	/**
+	 * Bottom-up merge sort of the null terminated chain after sentinel,
+	 * following next links only. Nodes are taken one at a time and carried
+	 * up a row of bins like a binary counter, where bin i holds a sorted
+	 * run of 2^i nodes, so most merges touch nodes that were just touched
+	 * and stay in cache. The bins are a fixed 64 slots, enough for any int
+	 * size. If the comparator throws, every node is stitched back behind
+	 * sentinel in some order.
+	 * @param sentinel placeholder node whose next is the chain's first node
+	 * @param order the order to sort by
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> void sortChain(Node<E> sentinel, Comparator<? super E> order) {
+		Node<E>[] bins = (Node<E>[]) new Node<?>[64];
+		Node<E> scratch = new Node<E>(null);
+		Node<E> remaining = sentinel.getNext();
+		Node<E> carry = null;
+		try {
+			while (remaining != null) {
+				carry = remaining;
+				remaining = remaining.getNext();
+				carry.setNext(null);
+				int bin = 0;
+				while (bins[bin] != null) {
+					Node<E> older = bins[bin];
+					Node<E> newer = carry;
+					bins[bin] = carry = null;
+					carry = mergeChains(older, newer, scratch, order);
+					bin++;
+				}
+				bins[bin] = carry;
+				carry = null;
+			}
+			for (int bin = 0; bin < bins.length; bin++) {
+				if (bins[bin] != null) {
+					Node<E> older = bins[bin];
+					Node<E> newer = carry;
+					bins[bin] = carry = null;
+					carry = mergeChains(older, newer, scratch, order);
+				}
+			}
+			sentinel.setNext(carry);
+		} catch (RuntimeException | Error e) {
+			// a merge that threw left both of its runs behind scratch
+			Node<E> last = sentinel;
+			last.setNext((carry != null) ? carry : scratch.getNext());
+			for (Node<E> run : bins) {
+				last = lastOf(last);
+				last.setNext(run);
+			}
+			lastOf(last).setNext(remaining);
+			throw e;
+		}
+	}
+
+	/**
+	 * Merges two sorted null terminated chains behind scratch, taking from
+	 * left on ties so equal elements keep their order. If the comparator
+	 * throws, what is left of both chains is still linked behind scratch.
+	 * @param left sorted chain of earlier nodes, may be null
+	 * @param right sorted chain of later nodes, may be null
+	 * @param scratch placeholder node to merge behind
+	 * @param order the order to merge by
+	 * @return the first node of the merged chain
+	 */
+	private static <E> Node<E> mergeChains(Node<E> left, Node<E> right, Node<E> scratch, Comparator<? super E> order) {
+		Node<E> tail = scratch;
+		try {
+			while (left != null && right != null) {
+				if (order.compare(right.getElement(), left.getElement()) < 0) {
+					tail.setNext(right);
+					tail = right;
+					right = right.getNext();
+				} else {
+					tail.setNext(left);
+					tail = left;
+					left = left.getNext();
+				}
+			}
+		} finally {
+			if (left == null) {
+				left = right;
+				right = null;
+			}
+			tail.setNext(left);
+			if (right != null) { // only when the comparator threw
+				lastOf(left).setNext(right);
+			}
+		}
+		return scratch.getNext();
+	}
+
+	/**
+	 * Cuts a chain after its first count nodes
+	 * @param first first node of the chain, may be null
+	 * @param count number of nodes to keep
+	 * @return the first node after the cut, or null if the chain was shorter
+	 */
+	private static <E> Node<E> cutAfter(Node<E> first, int count) {
+		if (first == null) {
+			return null;
+		}
+		Node<E> currentNode = first;
+		for (int i = 1; i < count && currentNode.getNext() != null; i++) {
+			currentNode = currentNode.getNext();
+		}
+		Node<E> rest = currentNode.getNext();
+		currentNode.setNext(null);
+		return rest;
+	}
+
+	/**
+	 * Follows next links to the end of a chain
+	 * @param node any node of the chain
+	 * @return the chain's last node
+	 */
+	private static <E> Node<E> lastOf(Node<E> node) {
+		while (node.getNext() != null) {
+			node = node.getNext();
+		}
+		return node;
+	}
+
+	/**
+	 * Rebuilds every previous link, tail and size by walking next links
+	 * from head
+	 */
+	private void relinkFromHead() {
+		Node<T> previousNode = null;
+		int count = 0;
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			currentNode.setPrevious(previousNode);
+			previousNode = currentNode;
+			count++;
+		}
+		tail = previousNode;
+		size = count;
+	}
+
+	/**
+	 * Refills the hash index, if enabled, from the nodes now linked
+	 */
+	private void rebuildHashIndex() {
+		if (hashIndex == null) {
+			return;
+		}
+		hashIndex.clear();
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			indexAdd(currentNode);
+		}
+	}
+
+	/**
+	 * Checks that a handle was issued by this list and its node is still
+	 * linked. A detached node has no previous and is not head, or its old
+	 * previous no longer points back at it.
+	 * @param handle the handle to check
+	 * @return the handle's node
+	 * @throws IllegalArgumentException if the handle belongs to another list
+	 * @throws IllegalStateException if the handle's element was removed
+	 */
+	private Node<T> checkHandle(Handle<T> handle) {
+		if (handle.list != this) {
+			throw new IllegalArgumentException("handle belongs to another list");
+		}
+		if (!handle.isValid()) {
+			throw new IllegalStateException("handle's element was removed");
+		}
+		return handle.node;
+	}
+
+	/**
+	 * Links a new handle node, which is never returned to the pool, in
+	 * front of successor. Counts as one structural modification.
+	 * @param element the element to store
+	 * @param successor node to follow the new one, null to link behind tail
+	 * @return a handle to the new node
+	 */
+	private Handle<T> linkHandle(T element, Node<T> successor) {
+		checkRoom(1);
+		Node<T> node = new HandleNode<T>(element);
+		indexAdd(node);
+		linkNode(node, successor);
+		evictOverflow();
+		return new Handle<T>(this, node);
+	}
+
+	/**
+	 * Checks whether a bounded REJECT list lacks room for more elements
+	 * @param count number of elements about to be inserted
+	 * @return true if the insert must be refused
+	 */
+	private boolean rejects(int count) {
+		return evictionPolicy == EvictionPolicy.REJECT && count > maxSize - size;
+	}
+
+	/**
+	 * Refuses an insert that a bounded REJECT list has no room for
+	 * @param count number of elements about to be inserted
+	 * @throws IllegalStateException if the insert must be refused
+	 */
+	private void checkRoom(int count) {
+		if (rejects(count)) {
+			throw new IllegalStateException("list is full");
+		}
+	}
+
+	/**
+	 * Trims a bounded list back to maxSize after an insert, from head or
+	 * tail by policy. Part of the insert's modification, so modCount is
+	 * not bumped again. The listener hears about each element once the
+	 * list is consistent again.
+	 */
+	private void evictOverflow() {
+		while (size > maxSize) {
+			Node<T> victim;
+			if (evictionPolicy == EvictionPolicy.DROP_OLDEST) {
+				victim = head;
+				head = victim.getNext();
+				head.setPrevious(null);
+			} else {
+				victim = tail;
+				tail = victim.getPrevious();
+				tail.setNext(null);
+			}
+			T element = victim.getElement();
+			releaseNode(victim);
+			size--;
+			if (evictionListener != null) {
+				evictionListener.accept(element);
+			}
+		}
+	}
+
+	/**
+	 * Through inheritance leverages DLLIterator for basic iterator 
+	 * functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new DLLIterator();
+	}
+
+	/**
+	 * Uses DLLIterator to achieve full listIterator functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return new DLLIterator();
+	}
+
+	/**
+	 * Uses DLLIterator to achieve full listIterator functionality beginning
+	 * at the startingIndex
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new DLLIterator(startingIndex);
+	}
+
+	/**
+	 * Returns an array of this list's elements in order, filled by one
+	 * walk of the node chain
+	 * @return a new array holding every element
+	 */
+	public Object[] toArray() {
+		Object[] result = new Object[size];
+		int i = 0;
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			result[i++] = currentNode.getElement();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an array of this list's elements in order, with the runtime
+	 * type of the given array. Uses that array when it is large enough,
+	 * setting the slot after the last element to null, and otherwise
+	 * allocates one of exactly size.
+	 * @param <A> component type of the array
+	 * @param array the array to fill, if it is large enough
+	 * @return an array holding every element
+	 * @throws ArrayStoreException if an element is not an A
+	 * @throws NullPointerException if array is null
+	 */
+	@SuppressWarnings("unchecked")
+	public <A> A[] toArray(A[] array) {
+		if (array.length < size) {
+			array = (A[]) Array.newInstance(array.getClass().getComponentType(), size);
+		}
+		Object[] result = array;
+		int i = 0;
+		for (Node<T> currentNode = head; currentNode != null; currentNode = currentNode.getNext()) {
+			result[i++] = currentNode.getElement();
+		}
+		if (array.length > size) {
+			array[size] = null;
+		}
+		return array;
+	}
+
+	/**
+	 * Walks the node chain in a plain loop, checking for modification once
+	 * at the end rather than on every step like the iterator does
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(Consumer<? super T> action) {
+		if (action == null) {
+			throw new NullPointerException();
+		}
+		int expectedModCount = modCount;
+		Node<T> currentNode = head;
+		// bounded by the starting size so an action that adds can not loop forever
+		for (int i = size; i > 0 && currentNode != null; i--) {
+			action.accept(currentNode.getElement());
+			currentNode = currentNode.getNext();
+		}
+		if (modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * Uses NodeSpliterator, which knows its exact size and splits the
+	 * node chain at its midpoint, so parallel streams divide the work
+	 * evenly
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new NodeSpliterator(head, size, modCount);
+	}
+
+	/**
+	 * Returns a sequential Stream over this list's elements in order
+	 * @return a sequential stream
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a possibly parallel Stream over this list's elements. The
+	 * list must not be structurally modified while the stream runs.
+	 * @return a parallel stream
+	 */
+	public Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
+	/**
+	 * Opaque reference to one element's position in an IUDoubleLinkedList,
+	 * returned by the handle add and insert methods. It stays valid until
+	 * that element is removed by any means, or its list gives all of its
+	 * nodes away through splice() or transferAll().
+	 *
+	 * @param <E> type stored in the list
+	 */
+	public static final class Handle<E> {
+		private final IUDoubleLinkedList<E> list;
+		private final Node<E> node;
+		private final int epoch;
+
+		/**
+		 * Creates a handle to a linked node
+		 * @param list the list holding node
+		 * @param node the handle's node
+		 */
+		private Handle(IUDoubleLinkedList<E> list, Node<E> node) {
+			this.list = list;
+			this.node = node;
+			this.epoch = list.handleEpoch;
+		}
+
+		/**
+		 * Returns whether the handle's element is still in its list
+		 * @return true if the element has not been removed
+		 */
+		public boolean isValid() {
+			if (epoch != list.handleEpoch) {
+				return false;
+			}
+			Node<E> previous = node.getPrevious();
+			return (previous == null) ? list.head == node : previous.getNext() == node;
+		}
+
+		/**
+		 * Returns the element at the handle's position
+		 * @return the element
+		 * @throws IllegalStateException if the element was removed
+		 */
+		public E getElement() {
+			if (!isValid()) {
+				throw new IllegalStateException("handle's element was removed");
+			}
+			return node.getElement();
+		}
+	}
+
+	/** Node created for a handle, kept out of the node pool */
+	private static final class HandleNode<E> extends Node<E> {
+		/**
+		 * Creates a node storing the specified element
+		 * @param element the element to be stored
+		 */
+		private HandleNode(E element) {
+			super(element);
+		}
+	}
+
+	/**
+	 * Hash index entry for an element held by more than one node. Keyed by
+	 * node identity, so removing one copy of a common element is O(1)
+	 * expected rather than a scan of every copy.
+	 */
+	private static class DuplicateNodes<E> extends IdentityHashMap<Node<E>, Boolean> {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A window onto a range of the outer list. Index operations are
+	 * shifted by offset and go straight to the outer list's nodes, so
+	 * they share its finger, pool and hash index.
+	 */
+	private class SubList implements IndexedUnsortedList<T> {
+		private final int offset;
+		private int size;
+		private int expectedModCount;
+
+		/**
+		 * Creates a view of size elements starting at offset
+		 * @param offset index in the outer list of the view's first element
+		 * @param size number of elements in the view
+		 */
+		private SubList(int offset, int size) {
+			this.offset = offset;
+			this.size = size;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Inserts at index 0 of the view
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addToFront(T element) {
+			add(0, element);
+		}
+
+		/**
+		 * Inserts right behind the view's last element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addToRear(T element) {
+			add(size, element);
+		}
+
+		/**
+		 * Same as addToRear()
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T element) {
+			add(size, element);
+		}
+
+		/**
+		 * Searches the view for the target and links the element after it
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addAfter(T element, T target) {
+			Node<T> targetNode = findInRange(target);
+			if (targetNode == null) {
+				throw new NoSuchElementException();
+			}
+			int outerSize = IUDoubleLinkedList.this.size;
+			linkBefore(element, targetNode.getNext());
+			grew(outerSize);
+		}
+
+		/**
+		 * Links the element in front of the outer node at offset + index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(int index, T element) {
+			checkForComodification();
+			if (index < 0 || index > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			int outerSize = IUDoubleLinkedList.this.size;
+			linkBefore(element, nodeAt(offset + index));
+			grew(outerSize);
+		}
+
+		/**
+		 * Unlinks the view's first element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeFirst() {
+			checkForComodification();
+			if (size == 0) {
+				throw new NoSuchElementException();
+			}
+			return remove(0);
+		}
+
+		/**
+		 * Unlinks the view's last element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeLast() {
+			checkForComodification();
+			if (size == 0) {
+				throw new NoSuchElementException();
+			}
+			return remove(size - 1);
+		}
+
+		/**
+		 * Searches the view for the element and unlinks it
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T remove(T element) {
+			Node<T> node = findInRange(element);
+			if (node == null) {
+				throw new NoSuchElementException();
+			}
+			T retVal = unlink(node);
+			size--;
+			expectedModCount = modCount;
+			return retVal;
+		}
+
+		/**
+		 * Unlinks the outer node at offset + index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T remove(int index) {
+			checkForComodification();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			T retVal = unlink(nodeAt(offset + index));
+			size--;
+			expectedModCount = modCount;
+			return retVal;
+		}
+
+		/**
+		 * Removes the whole range from the outer list with removeRange()
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear() {
+			checkForComodification();
+			removeRange(offset, offset + size);
+			size = 0;
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Changes the value of the outer node at offset + index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(int index, T element) {
+			checkForComodification();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			IUDoubleLinkedList.this.set(offset + index, element);
+			expectedModCount = modCount;
+		}
+
+		/**
+		 * Retrieves the element of the outer node at offset + index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T get(int index) {
+			checkForComodification();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return nodeAt(offset + index).getElement();
+		}
+
+		/**
+		 * Walks only the view's nodes to find what index the element is
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int indexOf(T element) {
+			checkForComodification();
+			Node<T> currentNode = size == 0 ? null : nodeAt(offset);
+			for (int i = 0; i < size; i++) {
+				if (currentNode.getElement().equals(element)) {
+					return i;
+				}
+				currentNode = currentNode.getNext();
+			}
+			return -1;
+		}
+
+		/**
+		 * Retrieves the view's first element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T first() {
+			checkForComodification();
+			if (size == 0) {
+				throw new NoSuchElementException();
+			}
+			return get(0);
+		}
+
+		/**
+		 * Retrieves the view's last element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T last() {
+			checkForComodification();
+			if (size == 0) {
+				throw new NoSuchElementException();
+			}
+			return get(size - 1);
+		}
+
+		/**
+		 * Uses indexOf() to see if the target is in the view
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean contains(T target) {
+			return indexOf(target) > -1;
+		}
+
+		/**
+		 * Checks if the view has no elements
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isEmpty() {
+			checkForComodification();
+			return size == 0;
+		}
+
+		/**
+		 * Checks the number of elements in the view
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		/**
+		 * A loop over the view's nodes with proper formatting
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			checkForComodification();
+			if (size == 0) return "[]";
+
+			Node<T> currentNode = nodeAt(offset);
+			StringBuilder b = new StringBuilder();
+			b.append('[');
+
+			for (int i = 0; i < size; i++) {
+				b.append(String.valueOf(currentNode.getElement()));
+				b.append(", ");
+				currentNode = currentNode.getNext();
+			}
+			b.delete(b.length()-2, b.length());
+			b.append(']');
+			return b.toString();
+		}
+
+		/**
+		 * Through inheritance leverages SubListIterator
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			return listIterator(0);
+		}
+
+		/**
+		 * Uses SubListIterator to achieve full listIterator functionality
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ListIterator<T> listIterator() {
+			return listIterator(0);
+		}
+
+		/**
+		 * Uses SubListIterator beginning at the startingIndex of the view
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ListIterator<T> listIterator(int startingIndex) {
+			checkForComodification();
+			if (startingIndex < 0 || startingIndex > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return new SubListIterator(startingIndex);
+		}
+
+		/**
+		 * Finds the first node in the view whose element equals the given one
+		 * @param element the element to look for
+		 * @return the matching node, or null if there is none
+		 */
+		private Node<T> findInRange(T element) {
+			checkForComodification();
+			Node<T> currentNode = size == 0 ? null : nodeAt(offset);
+			for (int i = 0; i < size; i++) {
+				if (currentNode.getElement().equals(element)) {
+					return currentNode;
+				}
+				currentNode = currentNode.getNext();
+			}
+			return null;
+		}
+
+		/**
+		 * Takes in an element added through this view. If a bounded outer
+		 * list evicted to make room, the view's range has shifted, so it is
+		 * left to fail fast instead.
+		 * @param outerSize the outer list's size before the add
+		 */
+		private void grew(int outerSize) {
+			if (IUDoubleLinkedList.this.size > outerSize) {
+				size++;
+				expectedModCount = modCount;
+			}
+		}
+
+		/**
+		 * Fails fast once the outer list was changed other than through this view
+		 * @throws ConcurrentModificationException if the outer list was modified
+		 */
+		private void checkForComodification() {
+			if (expectedModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		/** Outer DLLIterator kept inside the view's bounds */
+		private class SubListIterator implements ListIterator<T> {
+			private final DLLIterator iterator;
+
+			/**
+			 * Initialize iterator before starting index of the view
+			 * @param startingIndex the view index to start in front of
+			 */
+			private SubListIterator(int startingIndex) {
+				iterator = new DLLIterator(offset + startingIndex);
+			}
+
+			/**
+			 * Checks that the next node is still inside the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean hasNext() {
+				checkForComodification();
+				return iterator.nextIndex() < offset + size;
+			}
+
+			/**
+			 * Moves iterator past the next node of the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return iterator.next();
+			}
+
+			/**
+			 * Checks that the previous node is still inside the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public boolean hasPrevious() {
+				checkForComodification();
+				return iterator.nextIndex() > offset;
+			}
+
+			/**
+			 * Moves iterator past the previous node of the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public T previous() {
+				if (!hasPrevious()) {
+					throw new NoSuchElementException();
+				}
+				return iterator.previous();
+			}
+
+			/**
+			 * Gives the next node's index within the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public int nextIndex() {
+				return iterator.nextIndex() - offset;
+			}
+
+			/**
+			 * Gives the previous node's index within the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public int previousIndex() {
+				return iterator.previousIndex() - offset;
+			}
+
+			/**
+			 * Removes through the outer iterator and shrinks the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void remove() {
+				checkForComodification();
+				iterator.remove();
+				size--;
+				expectedModCount = modCount;
+			}
+
+			/**
+			 * Sets through the outer iterator
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void set(T e) {
+				checkForComodification();
+				iterator.set(e);
+				expectedModCount = modCount;
+			}
+
+			/**
+			 * Adds through the outer iterator and grows the view
+			 * {@inheritDoc}
+			 */
+			@Override
+			public void add(T e) {
+				checkForComodification();
+				int outerSize = IUDoubleLinkedList.this.size;
+				iterator.add(e);
+				grew(outerSize);
+			}
+		}
+	}
+
+	/**
+	 * java.util.Deque over the outer list. AbstractCollection supplies the
+	 * bulk Collection methods through iterator() and size().
+	 */
+	private class DequeView extends AbstractCollection<T> implements Deque<T> {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addFirst(T e) {
+			if (!offerFirst(e)) {
+				throw new IllegalStateException("list is full");
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addLast(T e) {
+			if (!offerLast(e)) {
+				throw new IllegalStateException("list is full");
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean offerFirst(T e) {
+			return IUDoubleLinkedList.this.offerFirst(e);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean offerLast(T e) {
+			return IUDoubleLinkedList.this.offerLast(e);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeFirst() {
+			return IUDoubleLinkedList.this.removeFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeLast() {
+			return IUDoubleLinkedList.this.removeLast();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T pollFirst() {
+			return IUDoubleLinkedList.this.pollFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T pollLast() {
+			return IUDoubleLinkedList.this.pollLast();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T getFirst() {
+			return first();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T getLast() {
+			return last();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T peekFirst() {
+			return IUDoubleLinkedList.this.peekFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T peekLast() {
+			return IUDoubleLinkedList.this.peekLast();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean removeFirstOccurrence(Object o) {
+			Node<T> node = (o == null) ? null : findNode((T) o);
+			if (node == null) {
+				return false;
+			}
+			unlink(node);
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean removeLastOccurrence(Object o) {
+			Node<T> node = (o == null) ? null : findLastNode((T) o);
+			if (node == null) {
+				return false;
+			}
+			unlink(node);
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean add(T e) {
+			addLast(e);
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean offer(T e) {
+			return offerLast(e);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T remove() {
+			return removeFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T poll() {
+			return pollFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T element() {
+			return getFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T peek() {
+			return peekFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void push(T e) {
+			addFirst(e);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T pop() {
+			return removeFirst();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean remove(Object o) {
+			return removeFirstOccurrence(o);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean contains(Object o) {
+			return o != null && findNode((T) o) != null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear() {
+			IUDoubleLinkedList.this.clear();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			return new DLLIterator();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<T> descendingIterator() {
+			return IUDoubleLinkedList.this.descendingIterator();
+		}
+	}
+
+	/**
+	 * A reverse order window onto the outer list. Every operation maps
+	 * onto the outer list's nodes, reading from tail where the outer list
+	 * would read from head.
+	 */
+	private class ReversedList implements IndexedUnsortedList<T> {
+
+		/**
+		 * Links at the outer list's rear
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addToFront(T element) {
+			IUDoubleLinkedList.this.addToRear(element);
+		}
+
+		/**
+		 * Links at the outer list's front
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addToRear(T element) {
+			IUDoubleLinkedList.this.addToFront(element);
+		}
+
+		/**
+		 * Same as addToRear(), links at the outer list's front
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T element) {
+			IUDoubleLinkedList.this.addToFront(element);
+		}
+
+		/**
+		 * Finds the target searching back from tail and links the element
+		 * in front of it in the outer list
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void addAfter(T element, T target) {
+			Node<T> targetNode = findLastNode(target);
+			if (targetNode == null) {
+				throw new NoSuchElementException();
+			}
+			linkBefore(element, targetNode);
+		}
+
+		/**
+		 * Inserts at outer index size - index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(int index, T element) {
+			if (index < 0 || index > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			IUDoubleLinkedList.this.add(size - index, element);
+		}
+
+		/**
+		 * Removes the outer list's last element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeFirst() {
+			return IUDoubleLinkedList.this.removeLast();
+		}
+
+		/**
+		 * Removes the outer list's first element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T removeLast() {
+			return IUDoubleLinkedList.this.removeFirst();
+		}
+
+		/**
+		 * Finds the element searching back from tail and unlinks it
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T remove(T element) {
+			Node<T> node = findLastNode(element);
+			if (node == null) {
+				throw new NoSuchElementException();
+			}
+			return unlink(node);
+		}
+
+		/**
+		 * Removes outer index size - 1 - index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T remove(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return IUDoubleLinkedList.this.remove(size - 1 - index);
+		}
+
+		/**
+		 * Clears the outer list
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void clear() {
+			IUDoubleLinkedList.this.clear();
+		}
+
+		/**
+		 * Changes outer index size - 1 - index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(int index, T element) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			IUDoubleLinkedList.this.set(size - 1 - index, element);
+		}
+
+		/**
+		 * Retrieves outer index size - 1 - index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return IUDoubleLinkedList.this.get(size - 1 - index);
+		}
+
+		/**
+		 * Walks back from tail to find what index the element is
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int indexOf(T element) {
+			Node<T> currentNode = findLastNode(element);
+			if (currentNode == null) {
+				return -1;
+			}
+			int currentIndex = 0;
+			while (currentNode != tail) {
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+			return currentIndex;
+		}
+
+		/**
+		 * Retrieves the outer list's last element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T first() {
+			return IUDoubleLinkedList.this.last();
+		}
+
+		/**
+		 * Retrieves the outer list's first element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T last() {
+			return IUDoubleLinkedList.this.first();
+		}
+
+		/**
+		 * Same as the outer list's contains()
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean contains(T target) {
+			return IUDoubleLinkedList.this.contains(target);
+		}
+
+		/**
+		 * Same as the outer list's isEmpty()
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Same as the outer list's size()
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * A loop back from tail with proper formatting
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			if (isEmpty()) return "[]";
+
+			Node<T> currentNode = tail;
+			StringBuilder b = new StringBuilder();
+			b.append('[');
+
+			while (currentNode != null) {
+				b.append(String.valueOf(currentNode.getElement()));
+				b.append(", ");
+				currentNode = currentNode.getPrevious();
+			}
+			b.delete(b.length()-2, b.length());
+			b.append(']');
+			return b.toString();
+		}
+
+		/**
+		 * Through inheritance leverages DescendingIterator
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			return new DescendingIterator(0);
+		}
+
+		/**
+		 * Uses DescendingIterator to achieve full listIterator functionality
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ListIterator<T> listIterator() {
+			return new DescendingIterator(0);
+		}
+
+		/**
+		 * Uses DescendingIterator beginning at the startingIndex of the view
+		 * {@inheritDoc}
+		 */
+		@Override
+		public ListIterator<T> listIterator(int startingIndex) {
+			return new DescendingIterator(startingIndex);
 		}
-		ListIterator<T> iterator = new DLLIterator(size);
-		T retVal = iterator.previous();
-		iterator.remove();
-		return retVal;
 	}
 
 	/**
-	 * Uses the list iterator to search and remove a target element 
-	 * {@inheritDoc}
+	 * List iterator in reverse order, wrapping a DLLIterator on the outer
+	 * list. Moving forward here moves backward there. Keeps its own flag
+	 * for remove() and set(), since add() has to step the outer iterator
+	 * back over the new element.
 	 */
-	@Override
-	public T remove(T element) { 
-		if (isEmpty()) {
-			throw new NoSuchElementException();
+	private class DescendingIterator implements ListIterator<T> {
+		private final DLLIterator iterator;
+		private boolean canModify;
+
+		/**
+		 * Initialize iterator before the given index of the reversed order
+		 * @param startingIndex the reversed index to start in front of
+		 */
+		private DescendingIterator(int startingIndex) {
+			if (startingIndex < 0 || startingIndex > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			iterator = new DLLIterator(size - startingIndex);
+			canModify = false;
 		}
 
-		ListIterator<T> iterator = new DLLIterator();
-		Boolean isFound = false;
-		T retVal = null;
-		while (!isFound && iterator.hasNext()) {
-			retVal = iterator.next();
-			isFound = retVal == element;
+		/**
+		 * Checks that there is an outer previous node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return iterator.hasPrevious();
 		}
-		if (!isFound) {
-			throw new NoSuchElementException();
+
+		/**
+		 * Moves the outer iterator back past its previous node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+			T retVal = iterator.previous();
+			canModify = true;
+			return retVal;
 		}
-		iterator.remove();
-		return retVal;
-	}
 
-	/**
-	 * Uses the list iterator at an index to remove said element
-	 * at that index
-	 * {@inheritDoc}
-	 */
-	@Override
-	public T remove(int index) {
-		if (index < 0 || index >= size) {
-			throw new IndexOutOfBoundsException();
+		/**
+		 * Checks that there is an outer next node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			return iterator.hasNext();
 		}
-		ListIterator<T> iterator = new DLLIterator(index);
-		T retVal = iterator.next();
-		iterator.remove();
-		return retVal;
-	}
 
-	/**
-	 * Uses the list iterator at an index to change the value associated
-	 * with the node at the selected index
-	 * {@inheritDoc}
-	 */
-	@Override
-	public void set(int index, T element) { 
-		if (index < 0 || index >= size) {
-			throw new IndexOutOfBoundsException();
+		/**
+		 * Moves the outer iterator forward past its next node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T previous() {
+			T retVal = iterator.next();
+			canModify = true;
+			return retVal;
 		}
-		ListIterator<T> iterator = new DLLIterator(index);
-		iterator.next();
-		iterator.set(element);
-	}
 
-	/**
-	 * Uses the list iterator at an index to retrieve said element
-	 * at that index
-	 * {@inheritDoc}
-	 */
-	@Override
-	public T get(int index) { //Update
-		if (index < 0 || index >= size) {
-			throw new IndexOutOfBoundsException();
+		/**
+		 * Gives the next index in reversed order
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			return size - iterator.nextIndex();
 		}
-		ListIterator<T> iterator = new DLLIterator(index);
-		T retVal = iterator.next();
-		return retVal;
-	}
 
-	/**
-	 * Searches nodes using a loop to find what index the element is 
-	 * {@inheritDoc}
-	 */
-	@Override
-	public int indexOf(T element) {
-		Node<T> currentNode = head;
-        int currentIndex = 0;
-        while (currentNode != null && !currentNode.getElement().equals(element)) {
-            currentNode = currentNode.getNext();
-            currentIndex++;
-        }
-        if (currentNode == null) {
-            currentIndex = -1;
-        }
-		return currentIndex;
-	}
+		/**
+		 * Gives the previous index in reversed order
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			return nextIndex() - 1;
+		}
 
-	/**
-	 * Retrieves the first node's element value
-	 * {@inheritDoc}
-	 */
-	@Override
-	public T first() {
-		if (isEmpty()) {
-            throw new NoSuchElementException();
-        }
-        return head.getElement();
-	}
+		/**
+		 * After next or previous, removes the associated node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			if (iterator.iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!canModify) {
+				throw new IllegalStateException();
+			}
+			iterator.remove();
+			canModify = false;
+		}
 
-	/**
-	 * Retrieves the last node's element value
-	 * {@inheritDoc}
-	 */
-	@Override
-	public T last() {
-		if (isEmpty()) {
-            throw new NoSuchElementException();
-        }
-        return tail.getElement();
-	}
+		/**
+		 * After next or previous, changes the associated node's value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(T e) {
+			if (iterator.iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!canModify) {
+				throw new IllegalStateException();
+			}
+			iterator.set(e);
+		}
 
-	/**
-	 * Uses contains() to see if the target element is  
-	 * present in the lists
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean contains(T target) {
-		return indexOf(target) > -1;
+		/**
+		 * Adds after the outer cursor, then steps the outer iterator back
+		 * over it so the new element is behind this iterator
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T e) {
+			// a full bounded list evicts the new node itself when it lands on the evicting end
+			boolean evictsNewNode = size >= maxSize && (evictionPolicy == EvictionPolicy.DROP_OLDEST
+					? iterator.nextIndex() == 0 : !iterator.hasNext());
+			iterator.add(e);
+			if (!evictsNewNode) {
+				iterator.previous();
+			}
+			canModify = false;
+		}
 	}
 
 	/**
-	 * Checks if the list has no nodes
-	 * {@inheritDoc}
+	 * Sorts the chains behind segments[from] to segments[to - 1], leaving
+	 * the merged result behind segments[from] and emptying the others. The
+	 * halves are sorted in parallel, then merged with the earlier half
+	 * first so ties keep their order. A failure in one half still waits for
+	 * the other, so no thread is relinking nodes once parallelSort() sees
+	 * the exception.
 	 */
-	@Override
-	public boolean isEmpty() {
-		return size == 0;
-	}
+	private static class SortTask<E> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final Node<E>[] segments;
+		private final int from, to;
+		private final Comparator<? super E> order;
 
-	/**
-	 * Checks the number of nodes present
-	 * {@inheritDoc}
-	 */
-	@Override
-	public int size() {
-		return size;
+		/**
+		 * Covers segments[from] to segments[to - 1]
+		 * @param segments placeholder nodes leading each segment's chain
+		 * @param from first segment to sort
+		 * @param to segment after the last one to sort
+		 * @param order the order to sort by
+		 */
+		private SortTask(Node<E>[] segments, int from, int to, Comparator<? super E> order) {
+			this.segments = segments;
+			this.from = from;
+			this.to = to;
+			this.order = order;
+		}
+
+		/**
+		 * Sorts one segment directly, or splits the range in two
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (to - from == 1) {
+				sortChain(segments[from], order);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			SortTask<E> right = new SortTask<E>(segments, middle, to, order);
+			right.fork();
+			try {
+				new SortTask<E>(segments, from, middle, order).compute();
+			} catch (RuntimeException | Error e) {
+				// wait for the other half so nothing still relinks after the throw
+				try {
+					right.join();
+				} catch (RuntimeException | Error other) {
+					e.addSuppressed(other);
+				}
+				throw e;
+			}
+			right.join();
+			Node<E> later = segments[middle].getNext();
+			segments[middle].setNext(null);
+			mergeChains(segments[from].getNext(), later, segments[from], order);
+		}
 	}
 
 	/**
-	 * A loop that retrieves each node's value in the list with proper formatting
-	 * {@inheritDoc}
+	 * Spliterator over a run of nodes. Each one covers exactly remaining
+	 * nodes starting at current, so both halves of a split are SIZED.
+	 * Traversal checks for modification before and after each tryAdvance()
+	 * and once at the end of forEachRemaining(), which stops early if an
+	 * action that modified the list cut the nodes short.
 	 */
-    @Override
-    public String toString() {
-        if (isEmpty()) return "[]";
+	private class NodeSpliterator implements Spliterator<T> {
+		private Node<T> current;
+		private int remaining;
+		private final int expectedModCount;
 
-		Node<T> currentNode = head;
-        StringBuilder b = new StringBuilder();
-        b.append('[');
+		/**
+		 * Covers count nodes starting at first
+		 * @param first first node to visit
+		 * @param count number of nodes to visit
+		 * @param expectedModCount modCount the list must still have
+		 */
+		private NodeSpliterator(Node<T> first, int count, int expectedModCount) {
+			current = first;
+			remaining = count;
+			this.expectedModCount = expectedModCount;
+		}
 
-        while (currentNode != null) {
-            b.append(String.valueOf(currentNode.getElement()));
-            b.append(", ");
-			currentNode = currentNode.getNext();
-        }
-		b.delete(b.length()-2, b.length());
-		b.append(']');
-        return b.toString();
-    }
+		/**
+		 * Visits the next node, if any
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (remaining == 0) {
+				return false;
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			T element = current.getElement();
+			current = current.getNext();
+			remaining--;
+			action.accept(element);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			return true;
+		}
 
-	/**
-	 * Through inheritance leverages DLLIterator for basic iterator 
-	 * functionality
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Iterator<T> iterator() {
-		return new DLLIterator();
-	}
+		/**
+		 * Visits the remaining nodes in a plain loop
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			Node<T> currentNode = current;
+			// a node can only run out early if the action modified the list
+			for (int i = remaining; i > 0 && currentNode != null; i--) {
+				action.accept(currentNode.getElement());
+				currentNode = currentNode.getNext();
+			}
+			current = null;
+			remaining = 0;
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
 
-	/**
-	 * Uses DLLIterator to achieve full listIterator functionality
-	 * {@inheritDoc}
-	 */
-	@Override
-	public ListIterator<T> listIterator() {
-		return new DLLIterator();
-	}
+		/**
+		 * Walks to the midpoint and hands off the first half
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Spliterator<T> trySplit() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (remaining < 2) {
+				return null;
+			}
+			int half = remaining >>> 1;
+			Node<T> first = current;
+			for (int i = 0; i < half; i++) {
+				current = current.getNext();
+			}
+			remaining -= half;
+			return new NodeSpliterator(first, half, expectedModCount);
+		}
 
-	/**
-	 * Uses DLLIterator to achieve full listIterator functionality beginning
-	 * at the startingIndex
-	 * {@inheritDoc}
-	 */
-	@Override
-	public ListIterator<T> listIterator(int startingIndex) {
-		return new DLLIterator(startingIndex);
+		/**
+		 * The exact number of nodes left to visit
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize() {
+			return remaining;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
 	}
 
     /** List iterator for double linked lists */
@@ -332,12 +3146,7 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 				throw new IndexOutOfBoundsException();
 			}
 
-            nextNode = head;
-
-			//Only efficient in the first half, can be written to back up from tail in the back half with
-            for (int i = 0; i < startingIndex; i++) {
-                nextNode = nextNode.getNext();
-            }
+            nextNode = nodeAt(startingIndex);
             nextIndex = startingIndex;
             iterModCount = modCount;
             lastReturnedNode = null;
@@ -371,6 +3180,36 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
             return retVal;
         }
 
+		/**
+		 * Moves past every remaining node in a plain loop, checking for
+		 * modification before the walk and once at the end
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			if (action == null) {
+				throw new NullPointerException();
+			}
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			Node<T> currentNode = nextNode;
+			Node<T> lastNode = lastReturnedNode;
+			int currentIndex = nextIndex;
+			for (int i = size - nextIndex; i > 0 && currentNode != null; i--) {
+				action.accept(currentNode.getElement());
+				lastNode = currentNode;
+				currentNode = currentNode.getNext();
+				currentIndex++;
+			}
+			nextNode = currentNode;
+			lastReturnedNode = lastNode;
+			nextIndex = currentIndex;
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
 		/**
 		 * Checks that there exists a previous node
 		 * {@inheritDoc}
@@ -442,6 +3281,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 			}
 
 			if (size == 1) {
+				if (lastReturnedNode != nextNode) { //last move was next
+					nextIndex--;
+				}
 				head = tail = nextNode = null;
 			} else if (lastReturnedNode != nextNode) { //last move was next
 				if (lastReturnedNode == head) {
@@ -467,7 +3309,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 					nextNode.getPrevious().setNext(nextNode.getNext());
 					nextNode.getNext().setPrevious(nextNode.getPrevious());
 				}
+				nextNode = lastReturnedNode.getNext();
 			}
+			releaseNode(lastReturnedNode);
 			lastReturnedNode = null;
 			size--;
 			iterModCount++;
@@ -487,7 +3331,9 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 				throw new IllegalStateException();
 			}
 
+			indexRemove(lastReturnedNode);
 			lastReturnedNode.setElement(e);
+			indexAdd(lastReturnedNode);
 			iterModCount++;
 			modCount++;
         }
@@ -501,7 +3347,8 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 			if (iterModCount != modCount) {
 				throw new ConcurrentModificationException();
 			}
-			Node<T> newNode = new Node<T>(e);
+			checkRoom(1);
+			Node<T> newNode = newNode(e);
             if (size == 0) {
 				head = tail = newNode;
 				newNode.setNext(nextNode);
@@ -527,6 +3374,16 @@ public class IUDoubleLinkedList<T> implements IndexedUnsortedList<T> {
 			size++;
 			iterModCount++;
 			modCount++;
+			if (size > maxSize) {
+				// one node over: head and the new node are both behind the
+				// cursor, and so is tail when the new node is tail
+				if (evictionPolicy == EvictionPolicy.DROP_OLDEST || nextNode == null) {
+					nextIndex--;
+				} else if (nextNode == tail) {
+					nextNode = null;
+				}
+				evictOverflow();
+			}
         }
     }
 }
\ No newline at end of file
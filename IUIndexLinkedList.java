@@ -0,0 +1,614 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Index-linked implementation of IndexedUnsortedList.
+ * Works like IUDoubleLinkedList, but instead of Node objects each element
+ * lives in a slot of an Object[] and the next/previous links are slot
+ * numbers kept in parallel int[] arrays. Removed slots go on a free list
+ * (threaded through the next array) and are reused by later adds. The
+ * list is three arrays no matter how long it is, so there are no per
+ * element objects for the garbage collector to trace.
+ *
+ * @author NathanMarquis
+ *
+ * @param <T> type to store
+ */
+public class IUIndexLinkedList<T> implements IndexedUnsortedList<T> {
+	private static final int NIL = -1;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private Object[] elements;
+	private int[] next, previous;
+	private int head, tail;
+	private int freeHead; // first reusable slot, NIL if none
+	private int highWater; // slots at or above this have never been used
+	private int size;
+	private int modCount;
+
+	/**
+	 * Creates an empty list with head and tail = NIL
+	 */
+	public IUIndexLinkedList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty list with room for initialCapacity elements
+	 * before the arrays need to grow
+	 * @param initialCapacity starting length of the slot arrays
+	 * @throws IllegalArgumentException if initialCapacity < 1
+	 */
+	public IUIndexLinkedList(int initialCapacity) {
+		if (initialCapacity < 1) {
+			throw new IllegalArgumentException("initialCapacity must be at least 1");
+		}
+		elements = new Object[initialCapacity];
+		next = new int[initialCapacity];
+		previous = new int[initialCapacity];
+		head = tail = freeHead = NIL;
+		highWater = 0;
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Links a new slot directly in front of head in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToFront(T element) {
+		linkBefore(head, element);
+		modCount++;
+	}
+
+	/**
+	 * Links a new slot directly behind tail in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToRear(T element) {
+		linkBefore(NIL, element);
+		modCount++;
+	}
+
+	/**
+	 * Same as addToRear(), links directly behind tail in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Uses the list iterator to search and add an element after a target
+	 * element
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAfter(T element, T target) {
+		ListIterator<T> iterator = new ILLIterator(0);
+		boolean isFound = false;
+		while (!isFound && iterator.hasNext()) {
+			isFound = iterator.next().equals(target);
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.add(element);
+	}
+
+	/**
+	 * Uses the list iterator to add an element at a specific index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, T element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new ILLIterator(index);
+		iterator.add(element);
+	}
+
+	/**
+	 * Unlinks the head slot directly in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T retVal = elementAt(head);
+		unlink(head);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Unlinks the tail slot directly in O(1)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T retVal = elementAt(tail);
+		unlink(tail);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Uses the list iterator to search and remove a target element
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(T element) {
+		ListIterator<T> iterator = new ILLIterator(0);
+		boolean isFound = false;
+		T retVal = null;
+		while (!isFound && iterator.hasNext()) {
+			retVal = iterator.next();
+			isFound = retVal.equals(element);
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.remove();
+		return retVal;
+	}
+
+	/**
+	 * Uses the list iterator at an index to remove said element
+	 * at that index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new ILLIterator(index);
+		T retVal = iterator.next();
+		iterator.remove();
+		return retVal;
+	}
+
+	/**
+	 * Clears every used slot and forgets the free list, keeping the
+	 * arrays' capacity
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(elements, 0, highWater, null);
+		head = tail = freeHead = NIL;
+		highWater = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Seeks to the slot at an index and changes its value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(int index, T element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		elements[slotAt(index)] = element;
+		modCount++;
+	}
+
+	/**
+	 * Seeks to the slot at an index to retrieve its element
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return elementAt(slotAt(index));
+	}
+
+	/**
+	 * Follows the next links from head to find what index the element is
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(T element) {
+		int currentSlot = head;
+		int currentIndex = 0;
+		while (currentSlot != NIL && !elements[currentSlot].equals(element)) {
+			currentSlot = next[currentSlot];
+			currentIndex++;
+		}
+		if (currentSlot == NIL) {
+			currentIndex = -1;
+		}
+		return currentIndex;
+	}
+
+	/**
+	 * Retrieves the head slot's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return elementAt(head);
+	}
+
+	/**
+	 * Retrieves the tail slot's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return elementAt(tail);
+	}
+
+	/**
+	 * Uses indexOf() to see if the target element is
+	 * present in the list
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(T target) {
+		return indexOf(target) > -1;
+	}
+
+	/**
+	 * Checks if the list has no linked slots
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks the number of linked slots
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * A loop that retrieves each slot's value in list order with proper formatting
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		if (isEmpty()) return "[]";
+
+		int currentSlot = head;
+		StringBuilder b = new StringBuilder();
+		b.append('[');
+
+		while (currentSlot != NIL) {
+			b.append(String.valueOf(elements[currentSlot]));
+			b.append(", ");
+			currentSlot = next[currentSlot];
+		}
+		b.delete(b.length()-2, b.length());
+		b.append(']');
+		return b.toString();
+	}
+
+	/**
+	 * Through inheritance leverages ILLIterator for basic iterator
+	 * functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new ILLIterator(0);
+	}
+
+	/**
+	 * Uses ILLIterator to achieve full listIterator functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return new ILLIterator(0);
+	}
+
+	/**
+	 * Uses ILLIterator to achieve full listIterator functionality beginning
+	 * at the startingIndex
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new ILLIterator(startingIndex);
+	}
+
+	/** @return the element stored in a slot */
+	@SuppressWarnings("unchecked")
+	private T elementAt(int slot) {
+		return (T) elements[slot];
+	}
+
+	/**
+	 * Finds the slot at the given index, walking forward from head in the
+	 * front half and backward from tail in the back half.
+	 * @param index position of the slot, 0 to size inclusive
+	 * @return the slot at index, or NIL when index == size
+	 */
+	private int slotAt(int index) {
+		if (index == size) {
+			return NIL;
+		}
+		int currentSlot;
+		if (index < (size >> 1)) {
+			currentSlot = head;
+			for (int i = 0; i < index; i++) {
+				currentSlot = next[currentSlot];
+			}
+		} else {
+			currentSlot = tail;
+			for (int i = size - 1; i > index; i--) {
+				currentSlot = previous[currentSlot];
+			}
+		}
+		return currentSlot;
+	}
+
+	/**
+	 * Returns the length of the slot arrays, so tests in this package can
+	 * tell whether the arrays grew
+	 * @return number of slots allocated
+	 */
+	int capacity() {
+		return elements.length;
+	}
+
+	/**
+	 * Takes a slot from the free list, or the next never used slot,
+	 * growing the arrays when they are full. Does not touch modCount.
+	 * @param element the element to store
+	 * @return the slot now holding element
+	 */
+	private int allocate(T element) {
+		int slot;
+		if (freeHead != NIL) {
+			slot = freeHead;
+			freeHead = next[slot];
+		} else {
+			if (highWater == elements.length) {
+				int newCapacity = elements.length + (elements.length >> 1) + 1;
+				elements = Arrays.copyOf(elements, newCapacity);
+				next = Arrays.copyOf(next, newCapacity);
+				previous = Arrays.copyOf(previous, newCapacity);
+			}
+			slot = highWater++;
+		}
+		elements[slot] = element;
+		return slot;
+	}
+
+	/**
+	 * Links a new slot in front of successor. Does not touch modCount.
+	 * @param successor slot that will follow the new one, NIL to append
+	 * @param element the element to store
+	 * @return the new slot
+	 */
+	private int linkBefore(int successor, T element) {
+		int slot = allocate(element);
+		int predecessor = (successor == NIL) ? tail : previous[successor];
+		previous[slot] = predecessor;
+		next[slot] = successor;
+		if (predecessor == NIL) {
+			head = slot;
+		} else {
+			next[predecessor] = slot;
+		}
+		if (successor == NIL) {
+			tail = slot;
+		} else {
+			previous[successor] = slot;
+		}
+		size++;
+		return slot;
+	}
+
+	/**
+	 * Unlinks a slot and puts it on the free list, clearing its element
+	 * so it is not kept alive. Does not touch modCount.
+	 * @param slot the linked slot to remove
+	 */
+	private void unlink(int slot) {
+		int predecessor = previous[slot];
+		int successor = next[slot];
+		if (predecessor == NIL) {
+			head = successor;
+		} else {
+			next[predecessor] = successor;
+		}
+		if (successor == NIL) {
+			tail = predecessor;
+		} else {
+			previous[successor] = predecessor;
+		}
+		elements[slot] = null;
+		previous[slot] = NIL;
+		next[slot] = freeHead;
+		freeHead = slot;
+		size--;
+	}
+
+	/** List iterator over slots, same logic as DLLIterator */
+	private class ILLIterator implements ListIterator<T> {
+
+		private int nextSlot;
+		private int lastReturnedSlot; // Dual use when trying to remove or check if able to remove
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * Initialize iterator before starting index
+		 * @param startingIndex the index to start in front of
+		 */
+		public ILLIterator(int startingIndex) {
+			if (startingIndex < 0 || startingIndex > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			nextSlot = slotAt(startingIndex);
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+			lastReturnedSlot = NIL;
+		}
+
+		/**
+		 * Checks that there exists a next slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextSlot != NIL;
+		}
+
+		/**
+		 * Moves iterator past the next slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedSlot = nextSlot;
+			nextSlot = next[nextSlot];
+			nextIndex++;
+			return elementAt(lastReturnedSlot);
+		}
+
+		/**
+		 * Checks that there exists a previous slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextSlot != head;
+		}
+
+		/**
+		 * Moves iterator past the previous slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			nextSlot = (nextSlot == NIL) ? tail : previous[nextSlot];
+			lastReturnedSlot = nextSlot;
+			nextIndex--;
+			return elementAt(lastReturnedSlot);
+		}
+
+		/**
+		 * Gives the next slot's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		/**
+		 * Gives the previous slot's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		/**
+		 * After next or previous, removes associated slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedSlot == NIL) {
+				throw new IllegalStateException();
+			}
+			if (lastReturnedSlot == nextSlot) { //last move was previous
+				nextSlot = next[nextSlot];
+			} else {
+				nextIndex--;
+			}
+			unlink(lastReturnedSlot);
+			lastReturnedSlot = NIL;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * After next or previous, changes associated slot with new value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedSlot == NIL) {
+				throw new IllegalStateException();
+			}
+			elements[lastReturnedSlot] = e;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * Adds a slot before the iterator
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			linkBefore(nextSlot, e);
+			lastReturnedSlot = NIL;
+			nextIndex++;
+			iterModCount++;
+			modCount++;
+		}
+	}
+}
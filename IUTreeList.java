@@ -0,0 +1,682 @@
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Balanced tree implementation of IndexedUnsortedList.
+ * Elements are kept in an AVL tree ordered by position rather than value,
+ * and every node stores the size of its subtree so an index can be found
+ * by descending from the root. add(int, T), get, set, remove(int) and
+ * listIterator(int) are O(log n), the ends are O(log n), and iteration
+ * visits the elements in list order. Searching by value is still O(n).
+ *
+ * @author NathanMarquis
+ *
+ * @param <T> type to store
+ */
+public class IUTreeList<T> implements IndexedUnsortedList<T> {
+	private TreeNode<T> root;
+	private int modCount;
+
+	/**
+	 * Creates an empty list with root = null
+	 */
+	public IUTreeList() {
+		root = null;
+		modCount = 0;
+	}
+
+	/**
+	 * Inserts at index 0
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToFront(T element) {
+		insertAt(0, element);
+		modCount++;
+	}
+
+	/**
+	 * Inserts at index size
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToRear(T element) {
+		insertAt(size(), element);
+		modCount++;
+	}
+
+	/**
+	 * Uses the addToRear() method, which has the same functionality.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Scans for the target, then inserts after its index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAfter(T element, T target) {
+		int targetIndex = indexOf(target);
+		if (targetIndex < 0) {
+			throw new NoSuchElementException();
+		}
+		insertAt(targetIndex + 1, element);
+		modCount++;
+	}
+
+	/**
+	 * Inserts at the given index in O(log n)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, T element) {
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		insertAt(index, element);
+		modCount++;
+	}
+
+	/**
+	 * Removes the leftmost node
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return remove(0);
+	}
+
+	/**
+	 * Removes the rightmost node
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return remove(size() - 1);
+	}
+
+	/**
+	 * Scans in order for the element, then removes its node
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(T element) {
+		TreeNode<T> currentNode = root == null ? null : leftmost(root);
+		while (currentNode != null && !currentNode.element.equals(element)) {
+			currentNode = successor(currentNode);
+		}
+		if (currentNode == null) {
+			throw new NoSuchElementException();
+		}
+		T retVal = currentNode.element;
+		deleteNode(currentNode);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Finds the node at the index in O(log n) and removes it
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		TreeNode<T> node = nodeAt(index);
+		T retVal = node.element;
+		deleteNode(node);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Drops the whole tree
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		root = null;
+		modCount++;
+	}
+
+	/**
+	 * Finds the node at the index in O(log n) and changes its value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(int index, T element) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		nodeAt(index).element = element;
+		modCount++;
+	}
+
+	/**
+	 * Finds the node at the index in O(log n)
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return nodeAt(index).element;
+	}
+
+	/**
+	 * Walks the nodes in order to find what index the element is
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(T element) {
+		TreeNode<T> currentNode = root == null ? null : leftmost(root);
+		int currentIndex = 0;
+		while (currentNode != null && !currentNode.element.equals(element)) {
+			currentNode = successor(currentNode);
+			currentIndex++;
+		}
+		if (currentNode == null) {
+			currentIndex = -1;
+		}
+		return currentIndex;
+	}
+
+	/**
+	 * Retrieves the leftmost node's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return leftmost(root).element;
+	}
+
+	/**
+	 * Retrieves the rightmost node's element value
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return rightmost(root).element;
+	}
+
+	/**
+	 * Uses indexOf() to see if the target element is
+	 * present in the list
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(T target) {
+		return indexOf(target) > -1;
+	}
+
+	/**
+	 * Checks if the tree has no nodes
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * The root's subtree size
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return sizeOf(root);
+	}
+
+	/**
+	 * An in order walk that retrieves each node's value with proper formatting
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		if (isEmpty()) return "[]";
+
+		TreeNode<T> currentNode = leftmost(root);
+		StringBuilder b = new StringBuilder();
+		b.append('[');
+
+		while (currentNode != null) {
+			b.append(String.valueOf(currentNode.element));
+			b.append(", ");
+			currentNode = successor(currentNode);
+		}
+		b.delete(b.length()-2, b.length());
+		b.append(']');
+		return b.toString();
+	}
+
+	/**
+	 * Through inheritance leverages TreeIterator for basic iterator
+	 * functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new TreeIterator(0);
+	}
+
+	/**
+	 * Uses TreeIterator to achieve full listIterator functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return new TreeIterator(0);
+	}
+
+	/**
+	 * Uses TreeIterator to achieve full listIterator functionality beginning
+	 * at the startingIndex
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new TreeIterator(startingIndex);
+	}
+
+	/**
+	 * Descends from the root using subtree sizes.
+	 * @param index position of the node, 0 to size inclusive
+	 * @return the node at index, or null when index == size
+	 */
+	private TreeNode<T> nodeAt(int index) {
+		TreeNode<T> currentNode = root;
+		while (currentNode != null) {
+			int leftSize = sizeOf(currentNode.left);
+			if (index < leftSize) {
+				currentNode = currentNode.left;
+			} else if (index == leftSize) {
+				return currentNode;
+			} else {
+				index -= leftSize + 1;
+				currentNode = currentNode.right;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Links a new node so it lands at the given in order position, then
+	 * rebalances back up to the root. Existing nodes keep their elements.
+	 * @param index position for the new element, 0 to size inclusive
+	 * @param element the element to store
+	 */
+	private void insertAt(int index, T element) {
+		TreeNode<T> newNode = new TreeNode<T>(element);
+		if (root == null) {
+			root = newNode;
+			return;
+		}
+		TreeNode<T> parent;
+		TreeNode<T> successor = nodeAt(index);
+		if (successor == null) {
+			parent = rightmost(root);
+			parent.right = newNode;
+		} else if (successor.left == null) {
+			parent = successor;
+			parent.left = newNode;
+		} else {
+			parent = rightmost(successor.left);
+			parent.right = newNode;
+		}
+		newNode.parent = parent;
+		rebalanceFrom(parent);
+	}
+
+	/**
+	 * Unlinks a node and rebalances back up to the root. A node with two
+	 * children takes its successor's element and the successor is unlinked
+	 * instead, so callers must not hold on to node references afterwards.
+	 * @param node the node to remove
+	 */
+	private void deleteNode(TreeNode<T> node) {
+		if (node.left != null && node.right != null) {
+			TreeNode<T> successor = leftmost(node.right);
+			node.element = successor.element;
+			node = successor;
+		}
+		TreeNode<T> child = (node.left != null) ? node.left : node.right;
+		TreeNode<T> parent = node.parent;
+		if (child != null) {
+			child.parent = parent;
+		}
+		replaceChild(parent, node, child);
+		node.left = node.right = node.parent = null;
+		node.element = null;
+		rebalanceFrom(parent);
+	}
+
+	/**
+	 * Updates height and size from node up to the root, rotating any
+	 * subtree that is out of balance on the way.
+	 * @param node the lowest node whose subtree changed
+	 */
+	private void rebalanceFrom(TreeNode<T> node) {
+		while (node != null) {
+			update(node);
+			int balance = heightOf(node.left) - heightOf(node.right);
+			if (balance > 1) {
+				if (heightOf(node.left.left) < heightOf(node.left.right)) {
+					rotateLeft(node.left);
+				}
+				node = rotateRight(node);
+			} else if (balance < -1) {
+				if (heightOf(node.right.right) < heightOf(node.right.left)) {
+					rotateRight(node.right);
+				}
+				node = rotateLeft(node);
+			}
+			node = node.parent;
+		}
+	}
+
+	/**
+	 * Rotates node's left child up into its place.
+	 * @param node the subtree root
+	 * @return the new subtree root
+	 */
+	private TreeNode<T> rotateRight(TreeNode<T> node) {
+		TreeNode<T> pivot = node.left;
+		node.left = pivot.right;
+		if (pivot.right != null) {
+			pivot.right.parent = node;
+		}
+		pivot.parent = node.parent;
+		replaceChild(node.parent, node, pivot);
+		pivot.right = node;
+		node.parent = pivot;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	/**
+	 * Rotates node's right child up into its place.
+	 * @param node the subtree root
+	 * @return the new subtree root
+	 */
+	private TreeNode<T> rotateLeft(TreeNode<T> node) {
+		TreeNode<T> pivot = node.right;
+		node.right = pivot.left;
+		if (pivot.left != null) {
+			pivot.left.parent = node;
+		}
+		pivot.parent = node.parent;
+		replaceChild(node.parent, node, pivot);
+		pivot.left = node;
+		node.parent = pivot;
+		update(node);
+		update(pivot);
+		return pivot;
+	}
+
+	/**
+	 * Points parent (or root when parent is null) at replacement instead of child
+	 * @param parent parent of child, may be null
+	 * @param child the current child
+	 * @param replacement the node to take child's place, may be null
+	 */
+	private void replaceChild(TreeNode<T> parent, TreeNode<T> child, TreeNode<T> replacement) {
+		if (parent == null) {
+			root = replacement;
+		} else if (parent.left == child) {
+			parent.left = replacement;
+		} else {
+			parent.right = replacement;
+		}
+	}
+
+	/** Recomputes a node's height and size from its children */
+	private static void update(TreeNode<?> node) {
+		node.height = 1 + Math.max(heightOf(node.left), heightOf(node.right));
+		node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+	}
+
+	/** @return height of the subtree, 0 for null */
+	private static int heightOf(TreeNode<?> node) {
+		return node == null ? 0 : node.height;
+	}
+
+	/** @return number of nodes in the subtree, 0 for null */
+	private static int sizeOf(TreeNode<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/** @return the first node in order under node */
+	private static <E> TreeNode<E> leftmost(TreeNode<E> node) {
+		while (node.left != null) {
+			node = node.left;
+		}
+		return node;
+	}
+
+	/** @return the last node in order under node */
+	private static <E> TreeNode<E> rightmost(TreeNode<E> node) {
+		while (node.right != null) {
+			node = node.right;
+		}
+		return node;
+	}
+
+	/** @return the next node in order, or null after the last */
+	private static <E> TreeNode<E> successor(TreeNode<E> node) {
+		if (node.right != null) {
+			return leftmost(node.right);
+		}
+		while (node.parent != null && node.parent.right == node) {
+			node = node.parent;
+		}
+		return node.parent;
+	}
+
+	/** @return the previous node in order, or null before the first */
+	private static <E> TreeNode<E> predecessor(TreeNode<E> node) {
+		if (node.left != null) {
+			return rightmost(node.left);
+		}
+		while (node.parent != null && node.parent.left == node) {
+			node = node.parent;
+		}
+		return node.parent;
+	}
+
+	/** AVL tree node with parent link, height and subtree size */
+	private static class TreeNode<E> {
+		private E element;
+		private TreeNode<E> left, right, parent;
+		private int height;
+		private int size;
+
+		/**
+		 * Creates a leaf storing the specified element
+		 * @param element the element to be stored
+		 */
+		public TreeNode(E element) {
+			this.element = element;
+			height = 1;
+			size = 1;
+		}
+	}
+
+	/** List iterator walking the tree in order */
+	private class TreeIterator implements ListIterator<T> {
+
+		private TreeNode<T> nextNode;
+		private TreeNode<T> lastReturnedNode; // Dual use when trying to remove or check if able to remove
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * Initialize iterator before starting index
+		 * @param startingIndex the index to start in front of
+		 */
+		public TreeIterator(int startingIndex) {
+			if (startingIndex < 0 || startingIndex > size()) {
+				throw new IndexOutOfBoundsException();
+			}
+			nextNode = nodeAt(startingIndex);
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+			lastReturnedNode = null;
+		}
+
+		/**
+		 * Checks that there exists a next node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextNode != null;
+		}
+
+		/**
+		 * Moves iterator past the in order successor
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedNode = nextNode;
+			nextNode = successor(nextNode);
+			nextIndex++;
+			return lastReturnedNode.element;
+		}
+
+		/**
+		 * Checks that there exists a previous node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		/**
+		 * Moves iterator back past the in order predecessor
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			nextNode = (nextNode == null) ? rightmost(root) : predecessor(nextNode);
+			lastReturnedNode = nextNode;
+			nextIndex--;
+			return lastReturnedNode.element;
+		}
+
+		/**
+		 * Gives the next node's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		/**
+		 * Gives the previous node's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		/**
+		 * After next or previous, removes associated node. Deleting can move
+		 * elements between nodes, so the next node is found again by index.
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedNode == null) {
+				throw new IllegalStateException();
+			}
+			if (lastReturnedNode != nextNode) { //last move was next
+				nextIndex--;
+			}
+			deleteNode(lastReturnedNode);
+			nextNode = nodeAt(nextIndex);
+			lastReturnedNode = null;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * After next or previous, changes associated node with new value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedNode == null) {
+				throw new IllegalStateException();
+			}
+			lastReturnedNode.element = e;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * Adds a node before the iterator. Inserting never moves elements
+		 * between nodes, so nextNode stays valid.
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			insertAt(nextIndex, e);
+			lastReturnedNode = null;
+			nextIndex++;
+			iterModCount++;
+			modCount++;
+		}
+	}
+}
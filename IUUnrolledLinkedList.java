@@ -0,0 +1,721 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Unrolled linked list implementation of IndexedUnsortedList.
+ * Each block in the chain holds a small array of elements, so the per
+ * element cost is one array slot instead of a whole node, and iteration
+ * reads consecutive slots before following a link. A full block is split
+ * in half on insert, and a block that falls below half full after a
+ * remove merges with or borrows from a neighbor, so the blocks stay at
+ * least half full. Index operations walk block by block from the closer end.
+ *
+ * @author NathanMarquis
+ *
+ * @param <T> type to store
+ */
+public class IUUnrolledLinkedList<T> implements IndexedUnsortedList<T> {
+	/** Block capacity used by the no-argument constructor */
+	public static final int DEFAULT_BLOCK_SIZE = 32;
+
+	private final int blockSize;
+	// There is always at least one block; it is only empty when the list is
+	private Block head, tail;
+	private int size;
+	private int modCount;
+
+	/**
+	 * Creates an empty list using DEFAULT_BLOCK_SIZE
+	 */
+	public IUUnrolledLinkedList() {
+		this(DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates an empty list whose blocks hold up to blockSize elements
+	 * @param blockSize capacity of each block
+	 * @throws IllegalArgumentException if blockSize < 2
+	 */
+	public IUUnrolledLinkedList(int blockSize) {
+		if (blockSize < 2) {
+			throw new IllegalArgumentException("blockSize must be at least 2");
+		}
+		this.blockSize = blockSize;
+		head = tail = new Block();
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Inserts into the head block, or links a new head block when full
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToFront(T element) {
+		if (head.count == blockSize) {
+			Block newBlock = new Block();
+			newBlock.next = head;
+			head.previous = newBlock;
+			head = newBlock;
+		}
+		insertAt(head, 0, element);
+		modCount++;
+	}
+
+	/**
+	 * Appends into the tail block, or links a new tail block when full
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addToRear(T element) {
+		if (tail.count == blockSize) {
+			Block newBlock = new Block();
+			newBlock.previous = tail;
+			tail.next = newBlock;
+			tail = newBlock;
+		}
+		tail.elements[tail.count++] = element;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Uses the addToRear() method, which has the same functionality.
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(T element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Uses the list iterator to search and add an element after a target
+	 * element
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addAfter(T element, T target) {
+		ListIterator<T> iterator = new UnrolledIterator(0);
+		boolean isFound = false;
+		while (!isFound && iterator.hasNext()) {
+			isFound = iterator.next().equals(target);
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.add(element);
+	}
+
+	/**
+	 * Uses the list iterator to add an element at a specific index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void add(int index, T element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new UnrolledIterator(index);
+		iterator.add(element);
+	}
+
+	/**
+	 * Removes slot 0 of the head block
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T retVal = head.get(0);
+		removeAt(head, 0);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Removes the last slot of the tail block
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		T retVal = tail.get(tail.count - 1);
+		removeAt(tail, tail.count - 1);
+		modCount++;
+		return retVal;
+	}
+
+	/**
+	 * Uses the list iterator to search and remove a target element
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(T element) {
+		ListIterator<T> iterator = new UnrolledIterator(0);
+		boolean isFound = false;
+		T retVal = null;
+		while (!isFound && iterator.hasNext()) {
+			retVal = iterator.next();
+			isFound = retVal.equals(element);
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.remove();
+		return retVal;
+	}
+
+	/**
+	 * Uses the list iterator at an index to remove said element
+	 * at that index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new UnrolledIterator(index);
+		T retVal = iterator.next();
+		iterator.remove();
+		return retVal;
+	}
+
+	/**
+	 * Drops every block and starts over with one empty block
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		head = tail = new Block();
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Uses the list iterator at an index to change the value
+	 * at the selected index
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void set(int index, T element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		ListIterator<T> iterator = new UnrolledIterator(index);
+		iterator.next();
+		iterator.set(element);
+	}
+
+	/**
+	 * Walks blocks from the closer end and reads the slot directly
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		Block currentBlock;
+		if (index < (size >> 1)) {
+			currentBlock = head;
+			while (index >= currentBlock.count) {
+				index -= currentBlock.count;
+				currentBlock = currentBlock.next;
+			}
+		} else {
+			currentBlock = tail;
+			index = size - 1 - index; // distance from the end
+			while (index >= currentBlock.count) {
+				index -= currentBlock.count;
+				currentBlock = currentBlock.previous;
+			}
+			index = currentBlock.count - 1 - index;
+		}
+		return currentBlock.get(index);
+	}
+
+	/**
+	 * Scans each block's slots in order to find what index the element is
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(T element) {
+		int blockStart = 0;
+		for (Block currentBlock = head; currentBlock != null; currentBlock = currentBlock.next) {
+			for (int i = 0; i < currentBlock.count; i++) {
+				if (currentBlock.elements[i].equals(element)) {
+					return blockStart + i;
+				}
+			}
+			blockStart += currentBlock.count;
+		}
+		return -1;
+	}
+
+	/**
+	 * Retrieves the first slot of the head block
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return head.get(0);
+	}
+
+	/**
+	 * Retrieves the last slot of the tail block
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return tail.get(tail.count - 1);
+	}
+
+	/**
+	 * Uses indexOf() to see if the target element is
+	 * present in the list
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean contains(T target) {
+		return indexOf(target) > -1;
+	}
+
+	/**
+	 * Checks if the list has no elements
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Checks the number of elements present
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * A loop over every block's slots with proper formatting
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		if (isEmpty()) return "[]";
+
+		StringBuilder b = new StringBuilder();
+		b.append('[');
+		for (Block currentBlock = head; currentBlock != null; currentBlock = currentBlock.next) {
+			for (int i = 0; i < currentBlock.count; i++) {
+				b.append(String.valueOf(currentBlock.elements[i]));
+				b.append(", ");
+			}
+		}
+		b.delete(b.length()-2, b.length());
+		b.append(']');
+		return b.toString();
+	}
+
+	/**
+	 * Through inheritance leverages UnrolledIterator for basic iterator
+	 * functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new UnrolledIterator(0);
+	}
+
+	/**
+	 * Uses UnrolledIterator to achieve full listIterator functionality
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator() {
+		return new UnrolledIterator(0);
+	}
+
+	/**
+	 * Uses UnrolledIterator to achieve full listIterator functionality beginning
+	 * at the startingIndex
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListIterator<T> listIterator(int startingIndex) {
+		return new UnrolledIterator(startingIndex);
+	}
+
+	/**
+	 * Stores element at slot offset of block, splitting the block in half
+	 * first when it is full. Does not touch modCount.
+	 * @param block the block to insert into
+	 * @param offset slot for the element, 0 to block.count inclusive
+	 * @param element the element to store
+	 */
+	private void insertAt(Block block, int offset, T element) {
+		if (block.count == blockSize) {
+			Block newBlock = new Block();
+			int half = blockSize >> 1;
+			int moved = blockSize - half;
+			System.arraycopy(block.elements, half, newBlock.elements, 0, moved);
+			Arrays.fill(block.elements, half, blockSize, null);
+			newBlock.count = moved;
+			block.count = half;
+			newBlock.previous = block;
+			newBlock.next = block.next;
+			if (block.next == null) {
+				tail = newBlock;
+			} else {
+				block.next.previous = newBlock;
+			}
+			block.next = newBlock;
+			if (offset > half) {
+				block = newBlock;
+				offset -= half;
+			}
+		}
+		System.arraycopy(block.elements, offset, block.elements, offset + 1, block.count - offset);
+		block.elements[offset] = element;
+		block.count++;
+		size++;
+	}
+
+	/**
+	 * Clears slot offset of block. A block that falls below half full is
+	 * merged with a neighbor, the previous one when there is one, if both
+	 * fit in one block, and otherwise takes elements from that neighbor
+	 * until both are at least half full. The previous block is never the
+	 * one unlinked, so a cursor anchored on it stays valid. An emptied
+	 * only block is kept. Does not touch modCount.
+	 * @param block the block holding the element
+	 * @param offset slot of the element
+	 */
+	private void removeAt(Block block, int offset) {
+		block.count--;
+		System.arraycopy(block.elements, offset + 1, block.elements, offset, block.count - offset);
+		block.elements[block.count] = null;
+		size--;
+		if (block.count >= blockSize >> 1 || head == tail) {
+			return;
+		}
+		Block previous = block.previous;
+		if (previous != null) {
+			if (previous.count + block.count <= blockSize) {
+				System.arraycopy(block.elements, 0, previous.elements, previous.count, block.count);
+				previous.count += block.count;
+				unlink(block);
+			} else {
+				int moved = (previous.count - block.count) >> 1;
+				System.arraycopy(block.elements, 0, block.elements, moved, block.count);
+				System.arraycopy(previous.elements, previous.count - moved, block.elements, 0, moved);
+				Arrays.fill(previous.elements, previous.count - moved, previous.count, null);
+				previous.count -= moved;
+				block.count += moved;
+			}
+		} else {
+			Block next = block.next;
+			if (block.count + next.count <= blockSize) {
+				System.arraycopy(next.elements, 0, block.elements, block.count, next.count);
+				block.count += next.count;
+				unlink(next);
+			} else {
+				int moved = (next.count - block.count) >> 1;
+				System.arraycopy(next.elements, 0, block.elements, block.count, moved);
+				System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+				Arrays.fill(next.elements, next.count - moved, next.count, null);
+				next.count -= moved;
+				block.count += moved;
+			}
+		}
+	}
+
+	/**
+	 * Counts the blocks in the chain, so tests in this package can check
+	 * how full the blocks are kept
+	 * @return number of blocks
+	 */
+	int blockCount() {
+		int count = 0;
+		for (Block block = head; block != null; block = block.next) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Removes a block from the chain
+	 * @param block the block to unlink, not the only block
+	 */
+	private void unlink(Block block) {
+		if (block == head) {
+			head = block.next;
+		} else {
+			block.previous.next = block.next;
+		}
+		if (block == tail) {
+			tail = block.previous;
+		} else {
+			block.next.previous = block.previous;
+		}
+		if (head != null) {
+			head.previous = null;
+		}
+		block.next = block.previous = null;
+	}
+
+	/** A link in the chain holding up to blockSize elements in order */
+	private class Block {
+		private final Object[] elements = new Object[blockSize];
+		private int count;
+		private Block next, previous;
+
+		/**
+		 * Returns the element in a slot
+		 * @param offset slot to read, less than count
+		 * @return the element in the slot
+		 */
+		@SuppressWarnings("unchecked")
+		private T get(int offset) {
+			return (T) elements[offset];
+		}
+	}
+
+	/**
+	 * List iterator for unrolled lists. The cursor is a block, a slot
+	 * offset in it and the index of the block's first element. The offset
+	 * only equals the block's count at the end of the list.
+	 */
+	private class UnrolledIterator implements ListIterator<T> {
+
+		private Block block;
+		private int offset;
+		private int blockStart;
+		private int nextIndex;
+		private int lastReturnedIndex; // -1 when remove or set is not allowed
+		private int iterModCount;
+
+		/**
+		 * Initialize iterator before starting index
+		 * @param startingIndex the index to start in front of
+		 */
+		public UnrolledIterator(int startingIndex) {
+			if (startingIndex < 0 || startingIndex > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			nextIndex = startingIndex;
+			if (startingIndex < (size >> 1)) {
+				moveTo(head, 0);
+			} else {
+				moveTo(tail, size - tail.count);
+			}
+			iterModCount = modCount;
+			lastReturnedIndex = -1;
+		}
+
+		/**
+		 * Walks blocks from the given one until the block holding
+		 * nextIndex is reached, then sets offset.
+		 * @param from block to start walking at
+		 * @param fromStart index of from's first element
+		 */
+		private void moveTo(Block from, int fromStart) {
+			block = from;
+			blockStart = fromStart;
+			while (nextIndex >= blockStart + block.count && block.next != null) {
+				blockStart += block.count;
+				block = block.next;
+			}
+			while (nextIndex < blockStart) {
+				block = block.previous;
+				blockStart -= block.count;
+			}
+			offset = nextIndex - blockStart;
+		}
+
+		/**
+		 * Checks that there exists a next element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex < size;
+		}
+
+		/**
+		 * Moves iterator past the next slot, onto the next block at its end
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			T retVal = block.get(offset);
+			lastReturnedIndex = nextIndex;
+			offset++;
+			nextIndex++;
+			if (offset == block.count && block.next != null) {
+				blockStart += block.count;
+				block = block.next;
+				offset = 0;
+			}
+			return retVal;
+		}
+
+		/**
+		 * Checks that there exists a previous element
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex > 0;
+		}
+
+		/**
+		 * Moves iterator back past the previous slot
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T previous() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			if (offset == 0) {
+				block = block.previous;
+				blockStart -= block.count;
+				offset = block.count;
+			}
+			offset--;
+			nextIndex--;
+			lastReturnedIndex = nextIndex;
+			return block.get(offset);
+		}
+
+		/**
+		 * Gives the next element's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		/**
+		 * Gives the previous element's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		/**
+		 * After next or previous, removes associated slot. Blocks may be
+		 * merged or unlinked, so the cursor is found again from a nearby block.
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedIndex < 0) {
+				throw new IllegalStateException();
+			}
+			Block lastBlock = block;
+			int lastStart = blockStart;
+			if (lastReturnedIndex < lastStart) { //last move was next across a block
+				lastBlock = block.previous;
+				lastStart -= lastBlock.count;
+			}
+			Block anchor = lastBlock.previous;
+			int anchorStart = (anchor == null) ? 0 : lastStart - anchor.count;
+			removeAt(lastBlock, lastReturnedIndex - lastStart);
+			if (lastReturnedIndex < nextIndex) { //last move was next
+				nextIndex--;
+			}
+			if (anchor == null) {
+				moveTo(head, 0);
+			} else {
+				moveTo(anchor, anchorStart);
+			}
+			lastReturnedIndex = -1;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * After next or previous, changes associated slot with new value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedIndex < 0) {
+				throw new IllegalStateException();
+			}
+			if (lastReturnedIndex < blockStart) {
+				block.previous.elements[block.previous.count - 1] = e;
+			} else {
+				block.elements[lastReturnedIndex - blockStart] = e;
+			}
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * Adds an element before the iterator. A split can move the cursor's
+		 * slot into a new block, so the cursor is found again from this block.
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(T e) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (offset == 0 && block.previous != null && block.previous.count < blockSize) {
+				// append to the end of the previous block rather than shift this one
+				block = block.previous;
+				blockStart -= block.count;
+				offset = block.count;
+			}
+			insertAt(block, offset, e);
+			lastReturnedIndex = -1;
+			nextIndex++;
+			moveTo(block, blockStart);
+			iterModCount++;
+			modCount++;
+		}
+	}
+}
@@ -89,6 +89,11 @@ public interface IndexedUnsortedList<T> extends Iterable<T>
      */
     public T remove(int index); 
         
+    /**  
+     * Removes all elements from this list. 
+     */
+    public void clear();
+
     /**  
      * Replace the element at the specified index with the given element. 
      *
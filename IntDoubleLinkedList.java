@@ -0,0 +1,607 @@
+import java.util.NoSuchElementException;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Double-linked list of primitive ints.
+ * Mirrors the IndexedUnsortedList API of IUDoubleLinkedList, but each
+ * node stores an int field, so adding never boxes and searching compares
+ * with == instead of calling equals(). Since remove(int) already means
+ * "remove at index", removing by value is named removeElement(int).
+ * Iterators are IntListIterators, which are PrimitiveIterator.OfInt and
+ * fail-fast like DLLIterator.
+ *
+ * @author NathanMarquis
+ */
+public class IntDoubleLinkedList {
+	private IntNode head, tail;
+	private int size;
+	private int modCount;
+
+	/**
+	 * Creates an empty list with head and tail = null
+	 */
+	public IntDoubleLinkedList() {
+		head = tail = null;
+		size = 0;
+		modCount = 0;
+	}
+
+	/**
+	 * Adds the specified element to the front of this list.
+	 * @param element the element to be added to the front of this list
+	 */
+	public void addToFront(int element) {
+		IntNode newNode = new IntNode(element);
+		if (head == null) {
+			tail = newNode;
+		} else {
+			newNode.next = head;
+			head.previous = newNode;
+		}
+		head = newNode;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds the specified element to the rear of this list.
+	 * @param element the element to be added to the rear of this list
+	 */
+	public void addToRear(int element) {
+		IntNode newNode = new IntNode(element);
+		if (tail == null) {
+			head = newNode;
+		} else {
+			newNode.previous = tail;
+			tail.next = newNode;
+		}
+		tail = newNode;
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Adds the specified element to the rear of this list.
+	 * @param element the element to be added to the rear of the list
+	 */
+	public void add(int element) {
+		addToRear(element);
+	}
+
+	/**
+	 * Adds the specified element after the first element of the list matching the specified target.
+	 * @param element the element to be added after the target
+	 * @param target the target is the item that the element will be added after
+	 * @throws NoSuchElementException if target element is not in this list
+	 */
+	public void addAfter(int element, int target) {
+		IntListIterator iterator = new IntDLLIterator(0);
+		boolean isFound = false;
+		while (!isFound && iterator.hasNext()) {
+			isFound = iterator.nextInt() == target;
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.add(element);
+	}
+
+	/**
+	 * Inserts the specified element at the specified index.
+	 * @param index the index to which the element is to be inserted
+	 * @param element the element to be inserted
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index > size)
+	 */
+	public void add(int index, int element) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		IntListIterator iterator = new IntDLLIterator(index);
+		iterator.add(element);
+	}
+
+	/**
+	 * Removes and returns the first element from this list.
+	 * @return the first element from this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int removeFirst() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		IntNode oldHead = head;
+		head = oldHead.next;
+		if (head == null) {
+			tail = null;
+		} else {
+			head.previous = null;
+			oldHead.next = null;
+		}
+		size--;
+		modCount++;
+		return oldHead.element;
+	}
+
+	/**
+	 * Removes and returns the last element from this list.
+	 * @return the last element from this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int removeLast() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		IntNode oldTail = tail;
+		tail = oldTail.previous;
+		if (tail == null) {
+			head = null;
+		} else {
+			tail.next = null;
+			oldTail.previous = null;
+		}
+		size--;
+		modCount++;
+		return oldTail.element;
+	}
+
+	/**
+	 * Removes and returns the first element from the list equal to the specified element.
+	 * @param element the element to be removed from the list
+	 * @return removed element
+	 * @throws NoSuchElementException if element is not in this list
+	 */
+	public int removeElement(int element) {
+		IntListIterator iterator = new IntDLLIterator(0);
+		boolean isFound = false;
+		while (!isFound && iterator.hasNext()) {
+			isFound = iterator.nextInt() == element;
+		}
+		if (!isFound) {
+			throw new NoSuchElementException();
+		}
+		iterator.remove();
+		return element;
+	}
+
+	/**
+	 * Removes and returns the element at the specified index.
+	 * @param index the index of the element to be removed
+	 * @return the element at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public int remove(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		IntListIterator iterator = new IntDLLIterator(index);
+		int retVal = iterator.nextInt();
+		iterator.remove();
+		return retVal;
+	}
+
+	/**
+	 * Removes all elements from this list. Dropping head and tail lets the
+	 * whole chain be collected at once, and counts as one structural
+	 * modification.
+	 */
+	public void clear() {
+		head = tail = null;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Replace the element at the specified index with the given element.
+	 * @param index the index of the element to replace
+	 * @param element the replacement element to be set into the list
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public void set(int index, int element) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		nodeAt(index).element = element;
+		modCount++;
+	}
+
+	/**
+	 * Returns the element at the specified index.
+	 * @param index the index of the element
+	 * @return the element at the specified index
+	 * @throws IndexOutOfBoundsException if the index is out of range (index < 0 || index >= size)
+	 */
+	public int get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return nodeAt(index).element;
+	}
+
+	/**
+	 * Returns the index of the first element from the list equal to the specified element.
+	 * @param element the element for the index is to be retrieved
+	 * @return the integer index for this element or -1 if element is not in the list
+	 */
+	public int indexOf(int element) {
+		IntNode currentNode = head;
+		int currentIndex = 0;
+		while (currentNode != null && currentNode.element != element) {
+			currentNode = currentNode.next;
+			currentIndex++;
+		}
+		if (currentNode == null) {
+			currentIndex = -1;
+		}
+		return currentIndex;
+	}
+
+	/**
+	 * Returns the first element in this list.
+	 * @return the first element in this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int first() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return head.element;
+	}
+
+	/**
+	 * Returns the last element in this list.
+	 * @return the last element in this list
+	 * @throws NoSuchElementException if list contains no elements
+	 */
+	public int last() {
+		if (isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return tail.element;
+	}
+
+	/**
+	 * Returns true if this list contains the specified target element.
+	 * @param target the target that is being sought in the list
+	 * @return true if the list contains this element, else false
+	 */
+	public boolean contains(int target) {
+		return indexOf(target) > -1;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 * @return true if this list contains no elements
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 * @return the integer representation of number of elements in this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * A loop that retrieves each node's value in the list with proper formatting
+	 * @return a string representation of this list
+	 */
+	@Override
+	public String toString() {
+		if (isEmpty()) return "[]";
+
+		IntNode currentNode = head;
+		StringBuilder b = new StringBuilder();
+		b.append('[');
+
+		while (currentNode != null) {
+			b.append(currentNode.element);
+			b.append(", ");
+			currentNode = currentNode.next;
+		}
+		b.delete(b.length()-2, b.length());
+		b.append(']');
+		return b.toString();
+	}
+
+	/**
+	 * Returns a primitive iterator over the elements in this list.
+	 * @return an iterator over the elements in this list
+	 */
+	public PrimitiveIterator.OfInt iterator() {
+		return new IntDLLIterator(0);
+	}
+
+	/**
+	 * Returns an IntListIterator over the elements in this list.
+	 * @return a list iterator over the elements in this list
+	 */
+	public IntListIterator listIterator() {
+		return new IntDLLIterator(0);
+	}
+
+	/**
+	 * Returns an IntListIterator positioned before the specified index.
+	 * @param startingIndex the index to start in front of
+	 * @return a list iterator over the elements in this list
+	 * @throws IndexOutOfBoundsException if startingIndex < 0 || startingIndex > size
+	 */
+	public IntListIterator listIterator(int startingIndex) {
+		return new IntDLLIterator(startingIndex);
+	}
+
+	/**
+	 * Finds the node at the given index, walking forward from head in the
+	 * front half and backward from tail in the back half.
+	 * @param index position of the node, 0 to size inclusive
+	 * @return the node at index, or null when index == size
+	 */
+	private IntNode nodeAt(int index) {
+		if (index == size) {
+			return null;
+		}
+		IntNode currentNode;
+		if (index < (size >> 1)) {
+			currentNode = head;
+			for (int i = 0; i < index; i++) {
+				currentNode = currentNode.next;
+			}
+		} else {
+			currentNode = tail;
+			for (int i = size - 1; i > index; i--) {
+				currentNode = currentNode.previous;
+			}
+		}
+		return currentNode;
+	}
+
+	/**
+	 * ListIterator over primitive ints. next() and previous() are replaced
+	 * by nextInt() and previousInt(); set and add take ints.
+	 */
+	public interface IntListIterator extends PrimitiveIterator.OfInt {
+		/**
+		 * Returns true if there is an element before the cursor
+		 * @return true if previousInt() would return an element
+		 */
+		public boolean hasPrevious();
+
+		/**
+		 * Returns the element before the cursor and moves the cursor back
+		 * @return the previous element
+		 * @throws NoSuchElementException if there is no previous element
+		 */
+		public int previousInt();
+
+		/**
+		 * Returns the index of the element nextInt() would return
+		 * @return the index after the cursor
+		 */
+		public int nextIndex();
+
+		/**
+		 * Returns the index of the element previousInt() would return
+		 * @return the index before the cursor
+		 */
+		public int previousIndex();
+
+		/**
+		 * Removes the element last returned by nextInt() or previousInt()
+		 * @throws IllegalStateException if neither was called since the last remove or add
+		 */
+		@Override
+		public void remove();
+
+		/**
+		 * Replaces the element last returned by nextInt() or previousInt()
+		 * @param element the replacement element
+		 * @throws IllegalStateException if neither was called since the last remove or add
+		 */
+		public void set(int element);
+
+		/**
+		 * Inserts an element before the cursor
+		 * @param element the element to insert
+		 */
+		public void add(int element);
+	}
+
+	/** Double-linked node storing a primitive int */
+	private static class IntNode {
+		private int element;
+		private IntNode next, previous;
+
+		/**
+		 * Creates a node storing the specified element
+		 * @param element the element to be stored
+		 */
+		public IntNode(int element) {
+			this.element = element;
+		}
+	}
+
+	/** List iterator for the int list, same logic as DLLIterator */
+	private class IntDLLIterator implements IntListIterator {
+
+		private IntNode nextNode;
+		private IntNode lastReturnedNode; // Dual use when trying to remove or check if able to remove
+		private int nextIndex;
+		private int iterModCount;
+
+		/**
+		 * Initialize iterator before starting index
+		 * @param startingIndex the index to start in front of
+		 */
+		public IntDLLIterator(int startingIndex) {
+			if (startingIndex < 0 || startingIndex > size) {
+				throw new IndexOutOfBoundsException();
+			}
+			nextNode = nodeAt(startingIndex);
+			nextIndex = startingIndex;
+			iterModCount = modCount;
+			lastReturnedNode = null;
+		}
+
+		/**
+		 * Checks that there exists a next node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextNode != null;
+		}
+
+		/**
+		 * Moves iterator past the next node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextInt() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedNode = nextNode;
+			nextNode = nextNode.next;
+			nextIndex++;
+			return lastReturnedNode.element;
+		}
+
+		/**
+		 * Checks that there exists a previous node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasPrevious() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextNode != head;
+		}
+
+		/**
+		 * Moves iterator past the previous node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousInt() {
+			if (!hasPrevious()) {
+				throw new NoSuchElementException();
+			}
+			nextNode = (nextNode == null) ? tail : nextNode.previous;
+			lastReturnedNode = nextNode;
+			nextIndex--;
+			return lastReturnedNode.element;
+		}
+
+		/**
+		 * Gives the next node's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int nextIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex;
+		}
+
+		/**
+		 * Gives the previous node's index
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int previousIndex() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			return nextIndex - 1;
+		}
+
+		/**
+		 * After next or previous, removes associated node
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedNode == null) {
+				throw new IllegalStateException();
+			}
+			if (lastReturnedNode == nextNode) { //last move was previous
+				nextNode = nextNode.next;
+			} else {
+				nextIndex--;
+			}
+			if (lastReturnedNode.previous == null) {
+				head = lastReturnedNode.next;
+			} else {
+				lastReturnedNode.previous.next = lastReturnedNode.next;
+			}
+			if (lastReturnedNode.next == null) {
+				tail = lastReturnedNode.previous;
+			} else {
+				lastReturnedNode.next.previous = lastReturnedNode.previous;
+			}
+			lastReturnedNode.next = lastReturnedNode.previous = null;
+			lastReturnedNode = null;
+			size--;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * After next or previous, changes associated node with new value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void set(int element) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (lastReturnedNode == null) {
+				throw new IllegalStateException();
+			}
+			lastReturnedNode.element = element;
+			iterModCount++;
+			modCount++;
+		}
+
+		/**
+		 * Adds a node before the iterator
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void add(int element) {
+			if (iterModCount != modCount) {
+				throw new ConcurrentModificationException();
+			}
+			IntNode newNode = new IntNode(element);
+			IntNode previousNode = (nextNode == null) ? tail : nextNode.previous;
+			newNode.previous = previousNode;
+			newNode.next = nextNode;
+			if (previousNode == null) {
+				head = newNode;
+			} else {
+				previousNode.next = newNode;
+			}
+			if (nextNode == null) {
+				tail = newNode;
+			} else {
+				nextNode.previous = newNode;
+			}
+			lastReturnedNode = null;
+			nextIndex++;
+			size++;
+			iterModCount++;
+			modCount++;
+		}
+	}
+}
@@ -0,0 +1,376 @@
+import java.util.HashMap;
+
+/**
+ * Fixed capacity key/value cache built on IUDoubleLinkedList.
+ * Entries sit in an IUDoubleLinkedList in recency order, most recent at
+ * the front, and a HashMap maps each key to its entry. Every entry keeps
+ * the Handle to its own node, so a hit moves the entry to the front and an
+ * eviction unlinks the tail in O(1) without searching the list.
+ * get, put and remove are O(1) expected.
+ *
+ * Two replacement policies are offered. LRU moves an entry to the front
+ * on every hit and evicts the tail. CLOCK only marks an entry as
+ * referenced on a hit; at eviction time a referenced tail entry is given
+ * a second chance (unmarked and moved to the front) instead of being
+ * evicted. CLOCK approximates LRU while keeping hits read-only on the list,
+ * and keeps entries that are hit repeatedly.
+ *
+ * Instances are not thread-safe; synchronizedCache() returns one that is.
+ *
+ * @author NathanMarquis
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class LRUCache<K, V> {
+	private final int capacity;
+	private final Policy policy;
+	private final HashMap<K, Entry<K, V>> entries;
+	private final IUDoubleLinkedList<Entry<K, V>> recency;
+	private long hits, misses, evictions;
+
+	/**
+	 * How the cache picks an entry to evict
+	 */
+	public enum Policy {
+		/** Move to front on every hit, evict the least recently used */
+		LRU,
+		/** Mark on hit, evict the first unmarked entry from the tail */
+		CLOCK
+	}
+
+	/**
+	 * Creates an empty LRU cache
+	 * @param capacity most entries to keep
+	 * @throws IllegalArgumentException if capacity < 1
+	 */
+	public LRUCache(int capacity) {
+		this(capacity, Policy.LRU);
+	}
+
+	/**
+	 * Creates an empty cache with the given replacement policy
+	 * @param capacity most entries to keep
+	 * @param policy how to pick entries to evict
+	 * @throws IllegalArgumentException if capacity < 1
+	 * @throws NullPointerException if policy is null
+	 */
+	public LRUCache(int capacity, Policy policy) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be at least 1");
+		}
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		this.capacity = capacity;
+		this.policy = policy;
+		entries = new HashMap<K, Entry<K, V>>();
+		recency = new IUDoubleLinkedList<Entry<K, V>>();
+		hits = misses = evictions = 0;
+	}
+
+	/**
+	 * Returns a cache whose every method is synchronized on the cache, for
+	 * sharing between threads
+	 * @param <K> key type
+	 * @param <V> value type
+	 * @param capacity most entries to keep
+	 * @param policy how to pick entries to evict
+	 * @return a thread-safe cache
+	 */
+	public static <K, V> LRUCache<K, V> synchronizedCache(int capacity, Policy policy) {
+		return new SynchronizedLRUCache<K, V>(capacity, policy);
+	}
+
+	/**
+	 * Looks up a key, counting a hit or a miss. A hit refreshes the entry:
+	 * LRU moves it to the front, CLOCK marks it referenced.
+	 * @param key the key to look up
+	 * @return the cached value, or null if the key is not cached
+	 */
+	public V get(K key) {
+		Entry<K, V> entry = entries.get(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		touch(entry);
+		return entry.value;
+	}
+
+	/**
+	 * Caches a value under a key, refreshing the entry if the key is
+	 * already cached. A new key in a full cache evicts one entry first.
+	 * @param key the key to cache under
+	 * @param value the value to cache
+	 * @return the value previously cached under key, or null if there was none
+	 * @throws NullPointerException if value is null, since get() returns null for a miss
+	 */
+	public V put(K key, V value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		Entry<K, V> entry = entries.get(key);
+		if (entry != null) {
+			V oldValue = entry.value;
+			entry.value = value;
+			touch(entry);
+			return oldValue;
+		}
+		if (entries.size() == capacity) {
+			evict();
+		}
+		entry = new Entry<K, V>(key, value);
+		entry.handle = recency.addToFrontHandle(entry);
+		entries.put(key, entry);
+		return null;
+	}
+
+	/**
+	 * Drops a key from the cache
+	 * @param key the key to drop
+	 * @return the value that was cached under key, or null if there was none
+	 */
+	public V remove(K key) {
+		Entry<K, V> entry = entries.remove(key);
+		if (entry == null) {
+			return null;
+		}
+		recency.removeHandle(entry.handle);
+		return entry.value;
+	}
+
+	/**
+	 * Checks for a key without counting a hit or refreshing the entry
+	 * @param key the key to look for
+	 * @return true if the key is cached
+	 */
+	public boolean containsKey(K key) {
+		return entries.containsKey(key);
+	}
+
+	/**
+	 * Drops every entry. The counters are kept.
+	 */
+	public void clear() {
+		entries.clear();
+		recency.clear();
+	}
+
+	/**
+	 * @return number of cached entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return most entries the cache keeps
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the replacement policy
+	 */
+	public Policy policy() {
+		return policy;
+	}
+
+	/**
+	 * @return number of get() calls that found their key
+	 */
+	public long hitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return number of get() calls that did not find their key
+	 */
+	public long missCount() {
+		return misses;
+	}
+
+	/**
+	 * @return number of entries evicted to make room for new keys
+	 */
+	public long evictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * Lists the entries from most to least recently used, for LRU, or in
+	 * clock order, for CLOCK
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return recency.toString();
+	}
+
+	/**
+	 * Refreshes an entry after a hit or an overwrite
+	 * @param entry a cached entry
+	 */
+	private void touch(Entry<K, V> entry) {
+		if (policy == Policy.LRU) {
+			recency.moveToFront(entry.handle);
+		} else {
+			entry.referenced = true;
+		}
+	}
+
+	/**
+	 * Evicts one entry from the tail. Under CLOCK, referenced entries met
+	 * on the way are unmarked and moved to the front instead; this ends
+	 * after at most one lap since every entry it passes is unmarked.
+	 */
+	private void evict() {
+		Entry<K, V> victim = recency.last();
+		while (victim.referenced) {
+			victim.referenced = false;
+			recency.moveToFront(victim.handle);
+			victim = recency.last();
+		}
+		recency.removeHandle(victim.handle);
+		entries.remove(victim.key);
+		evictions++;
+	}
+
+	/**
+	 * A cached key/value pair and the handle to its node
+	 */
+	private static final class Entry<K, V> {
+		private final K key;
+		private V value;
+		private IUDoubleLinkedList.Handle<Entry<K, V>> handle;
+		private boolean referenced; // CLOCK only
+
+		/**
+		 * Creates an unreferenced entry
+		 * @param key the key
+		 * @param value the value
+		 */
+		private Entry(K key, V value) {
+			this.key = key;
+			this.value = value;
+			referenced = false;
+		}
+
+		/**
+		 * Formats as key=value
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	/**
+	 * LRUCache with every public method synchronized on the cache
+	 */
+	private static final class SynchronizedLRUCache<K, V> extends LRUCache<K, V> {
+
+		/**
+		 * Creates an empty synchronized cache
+		 * @param capacity most entries to keep
+		 * @param policy how to pick entries to evict
+		 */
+		private SynchronizedLRUCache(int capacity, Policy policy) {
+			super(capacity, policy);
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized V get(K key) {
+			return super.get(key);
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized V put(K key, V value) {
+			return super.put(key, value);
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized V remove(K key) {
+			return super.remove(key);
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized boolean containsKey(K key) {
+			return super.containsKey(key);
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized void clear() {
+			super.clear();
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized int size() {
+			return super.size();
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized long hitCount() {
+			return super.hitCount();
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized long missCount() {
+			return super.missCount();
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized long evictionCount() {
+			return super.evictionCount();
+		}
+
+		/**
+		 * Synchronized on the cache
+		 * {@inheritDoc}
+		 */
+		@Override
+		public synchronized String toString() {
+			return super.toString();
+		}
+	}
+}
@@ -0,0 +1,1001 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterators;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.StreamSupport;
+
+/**
+ * Simple timing driver for IUDoubleLinkedList. Each benchmark is a static
+ * method that warms up, then prints average nanoseconds per operation
+ * for a range of list sizes so the scaling can be read off the table.
+ *
+ * Usage: java ListBenchmark [benchmark names...]
+ * With no arguments every benchmark is run.
+ *
+ * @author NathanMarquis
+ */
+public class ListBenchmark {
+	private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+	private static final int WARMUP_ROUNDS = 3;
+	private static final long SEEK_NANOS = 200_000_000L; // time spent on each indexSeek cell
+	private static final int SEEK_BATCH = 16; // gets between clock reads
+	private static final int[] SORT_SIZES = {1_000_000, 10_000_000}; // 10M needs about -Xmx3g
+
+	//keeps the JIT from discarding results
+	private static long sink;
+
+	/**
+	 * Runs the benchmarks named in args, or all of them
+	 * @param args names of benchmarks to run
+	 */
+	public static void main(String[] args) {
+		List<String> selected = new ArrayList<String>(List.of(args));
+		if (selected.isEmpty() || selected.contains("indexSeek")) {
+			benchIndexSeek();
+		}
+		if (selected.isEmpty() || selected.contains("sequentialGet")) {
+			benchSequentialGet();
+		}
+		if (selected.isEmpty() || selected.contains("footprint")) {
+			benchFootprint();
+		}
+		if (selected.isEmpty() || selected.contains("primitive")) {
+			benchPrimitive();
+		}
+		if (selected.isEmpty() || selected.contains("nodePool")) {
+			benchNodePool();
+		}
+		if (selected.isEmpty() || selected.contains("hashIndex")) {
+			benchHashIndex();
+		}
+		if (selected.isEmpty() || selected.contains("addAll")) {
+			benchAddAll();
+		}
+		if (selected.isEmpty() || selected.contains("stream")) {
+			benchStream();
+		}
+		if (selected.isEmpty() || selected.contains("forEach")) {
+			benchForEach();
+		}
+		if (selected.isEmpty() || selected.contains("removeIf")) {
+			benchRemoveIf();
+		}
+		if (selected.isEmpty() || selected.contains("replaceAll")) {
+			benchReplaceAll();
+		}
+		if (selected.isEmpty() || selected.contains("sort")) {
+			benchSort();
+		}
+		if (selected.isEmpty() || selected.contains("parallelSort")) {
+			benchParallelSort();
+		}
+		if (selected.isEmpty() || selected.contains("toArray")) {
+			benchToArray();
+		}
+		if (selected.isEmpty() || selected.contains("deque")) {
+			benchDeque();
+		}
+		if (selected.isEmpty() || selected.contains("bounded")) {
+			benchBounded();
+		}
+		if (selected.isEmpty() || selected.contains("lruCache")) {
+			benchLRUCache();
+		}
+		if (selected.isEmpty() || selected.contains("concurrentList")) {
+			benchConcurrentList();
+		}
+		System.out.println("(sink " + sink + ")");
+	}
+
+	/**
+	 * Builds a list of Integers 0 to size-1
+	 * @param size number of elements
+	 * @return the filled list
+	 */
+	private static IUDoubleLinkedList<Integer> filledList(int size) {
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (int i = 0; i < size; i++) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
+	/**
+	 * Prints a benchmark title and column headings
+	 * @param title name of the benchmark
+	 * @param columns headings after the size column
+	 */
+	private static void printHeader(String title, String... columns) {
+		System.out.println("\n" + title);
+		System.out.printf("%12s", "size");
+		for (String column : columns) {
+			System.out.printf("%18s", column);
+		}
+		System.out.println();
+	}
+
+	/**
+	 * get(0), get(size/2) and get(size-1). With seeking from the closer end
+	 * the first and last index should stay flat as size grows while the
+	 * middle index grows linearly. Each get(size/2) follows a get(0), so
+	 * the finger never starts next to the middle and every call really
+	 * seeks. Each cell runs for a fixed time rather than a fixed number of
+	 * calls, so large lists still average over enough calls to hide GC
+	 * and timer noise.
+	 */
+	private static void benchIndexSeek() {
+		printHeader("Index seek (ns/op)", "get(0)", "get(size/2)", "get(size-1)");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			double front = 0, middle = 0, back = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				front = timeGet(list, 0, false);
+				middle = timeGet(list, size / 2, true);
+				back = timeGet(list, size - 1, false);
+			}
+			System.out.printf("%12d%18.1f%18.1f%18.1f\n", size, front, middle, back);
+		}
+	}
+
+	/**
+	 * Calls get(index) in batches until SEEK_NANOS have passed
+	 * @param list the list to read
+	 * @param index the index to get
+	 * @param fromHead whether to get(0) before each call, moving the finger away
+	 * @return average ns per call to get(index)
+	 */
+	private static double timeGet(IUDoubleLinkedList<Integer> list, int index, boolean fromHead) {
+		long reps = 0;
+		long elapsed;
+		long start = System.nanoTime();
+		do {
+			for (int i = 0; i < SEEK_BATCH; i++) {
+				if (fromHead) {
+					sink += list.get(0);
+				}
+				sink += list.get(index);
+			}
+			reps += SEEK_BATCH;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < SEEK_NANOS);
+		return elapsed / (double) reps;
+	}
+
+	/**
+	 * for (i...) get(i) loops forward, backward and with a stride of 7.
+	 * With the finger each access is a few steps, so ns/op should stay
+	 * flat as size grows instead of growing linearly.
+	 */
+	private static void benchSequentialGet() {
+		printHeader("Sequential get loop (ns/op)", "forward", "backward", "stride 7");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			double forward = 0, backward = 0, stride = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				for (int i = 0; i < size; i++) {
+					sink += list.get(i);
+				}
+				forward = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				for (int i = size - 1; i >= 0; i--) {
+					sink += list.get(i);
+				}
+				backward = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				int count = 0;
+				for (int offset = 0; offset < 7; offset++) {
+					for (int i = offset; i < size; i += 7) {
+						sink += list.get(i);
+						count++;
+					}
+				}
+				stride = (System.nanoTime() - start) / (double) count;
+			}
+			System.out.printf("%12d%18.1f%18.1f%18.1f\n", size, forward, backward, stride);
+		}
+	}
+
+	/**
+	 * Heap bytes per element (excluding the elements themselves) and
+	 * for-each iteration cost for each linked implementation. The rows share
+	 * one iterator call site, so later rows iterate with a less specialized
+	 * JIT profile; compare iteration in separate runs for exact numbers.
+	 */
+	private static void benchFootprint() {
+		int size = SIZES[SIZES.length - 1];
+		Integer[] values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = i;
+		}
+		System.out.println("\nFootprint and iteration, " + size + " elements");
+		System.out.printf("%22s%18s%18s\n", "list", "bytes/element", "iterate ns/elem");
+		footprintRow("IUDoubleLinkedList", () -> new IUDoubleLinkedList<Integer>(), values);
+		footprintRow("IUUnrolledLinkedList", () -> new IUUnrolledLinkedList<Integer>(), values);
+		footprintRow("IUIndexLinkedList", () -> new IUIndexLinkedList<Integer>(), values);
+		footprintRow("IUTreeList", () -> new IUTreeList<Integer>(), values);
+	}
+
+	/**
+	 * Prints one row of the footprint benchmark
+	 * @param name label for the row
+	 * @param factory creates an empty list
+	 * @param values pre-boxed elements to load
+	 */
+	private static void footprintRow(String name, Supplier<IndexedUnsortedList<Integer>> factory, Integer[] values) {
+		long before = usedHeap();
+		IndexedUnsortedList<Integer> list = factory.get();
+		for (Integer value : values) {
+			list.addToRear(value);
+		}
+		double bytes = (usedHeap() - before) / (double) values.length;
+		double iterate = 0;
+		for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (Integer value : list) {
+				sink += value;
+			}
+			iterate = (System.nanoTime() - start) / (double) values.length;
+		}
+		System.out.printf("%22s%18.1f%18.2f\n", name, bytes, iterate);
+	}
+
+	/** @return bytes of heap in use after requesting a collection */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Loading and a miss-all indexOf search on IUDoubleLinkedList of Integer
+	 * versus IntDoubleLinkedList. The int list never boxes and compares with
+	 * == instead of equals().
+	 */
+	private static void benchPrimitive() {
+		printHeader("Boxed vs primitive (ns/element)", "load Integer", "load int", "indexOf Integer", "indexOf int");
+		for (int size : SIZES) {
+			double loadBoxed = 0, loadInt = 0, searchBoxed = 0, searchInt = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				IUDoubleLinkedList<Integer> boxed = new IUDoubleLinkedList<Integer>();
+				for (int i = 0; i < size; i++) {
+					boxed.addToRear(i + 1000);
+				}
+				loadBoxed = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				IntDoubleLinkedList ints = new IntDoubleLinkedList();
+				for (int i = 0; i < size; i++) {
+					ints.addToRear(i + 1000);
+				}
+				loadInt = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += boxed.indexOf(-1);
+				searchBoxed = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += ints.indexOf(-1);
+				searchInt = (System.nanoTime() - start) / (double) size;
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f\n", size, loadBoxed, loadInt, searchBoxed, searchInt);
+		}
+	}
+
+	/**
+	 * Queue-like churn: addToRear then removeFirst on a list holding 1000
+	 * elements, with and without a node pool. Reports heap bytes allocated
+	 * by this thread per add/remove pair once the list is warm; with the
+	 * pool it should be near zero.
+	 */
+	private static void benchNodePool() {
+		final int ops = 10_000_000;
+		final Integer value = 42;
+		System.out.println("\nNode pool churn, " + ops + " addToRear/removeFirst pairs");
+		System.out.printf("%22s%18s%18s\n", "pool capacity", "bytes/pair", "ns/pair");
+		for (int capacity : new int[] {0, 16, 1024}) {
+			IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>(capacity);
+			for (int i = 0; i < 1000; i++) {
+				list.addToRear(value);
+			}
+			double bytes = 0, time = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long allocated = allocatedBytes();
+				long start = System.nanoTime();
+				for (int i = 0; i < ops; i++) {
+					list.addToRear(value);
+					sink += list.removeFirst();
+				}
+				time = (System.nanoTime() - start) / (double) ops;
+				bytes = (allocatedBytes() - allocated) / (double) ops;
+			}
+			System.out.printf("%22d%18.2f%18.2f\n", capacity, bytes, time);
+		}
+	}
+
+	/**
+	 * @return bytes allocated so far by the current thread, -1 if the
+	 * JVM does not report it
+	 */
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return -1;
+	}
+
+	/**
+	 * contains() and remove(T)/addToRear pairs on a list of distinct
+	 * elements, with and without the hash index, plus the cost the index
+	 * adds to addToRear/removeFirst churn.
+	 */
+	private static void benchHashIndex() {
+		printHeader("Hash index (ns/op)", "contains scan", "contains index", "remove(T) scan",
+				"remove(T) index", "churn plain", "churn index");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> plain = filledList(size);
+			IUDoubleLinkedList<Integer> indexed = filledList(size);
+			indexed.enableHashIndex();
+			int reps = Math.max(10, 1_000_000 / size);
+			Random random = new Random(size);
+			double[] results = new double[6];
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				results[0] = timeContains(plain, random, size, reps);
+				results[1] = timeContains(indexed, random, size, reps * 100);
+				results[2] = timeRemoveElement(plain, random, size, reps);
+				results[3] = timeRemoveElement(indexed, random, size, reps * 100);
+				results[4] = timeChurn(plain);
+				results[5] = timeChurn(indexed);
+			}
+			System.out.printf("%12d", size);
+			for (double result : results) {
+				System.out.printf("%18.1f", result);
+			}
+			System.out.println();
+		}
+	}
+
+	/** @return average ns for contains() of a random element, half of them missing */
+	private static double timeContains(IUDoubleLinkedList<Integer> list, Random random, int size, int reps) {
+		long start = System.nanoTime();
+		for (int i = 0; i < reps; i++) {
+			if (list.contains(random.nextInt(2 * size))) {
+				sink++;
+			}
+		}
+		return (System.nanoTime() - start) / (double) reps;
+	}
+
+	/** @return average ns for remove(T) of a random element followed by addToRear of it */
+	private static double timeRemoveElement(IUDoubleLinkedList<Integer> list, Random random, int size, int reps) {
+		long start = System.nanoTime();
+		for (int i = 0; i < reps; i++) {
+			Integer element = list.remove((Integer) random.nextInt(size));
+			list.addToRear(element);
+		}
+		return (System.nanoTime() - start) / (double) reps;
+	}
+
+	/** @return average ns for an addToRear/removeFirst pair that keeps the elements distinct */
+	private static double timeChurn(IUDoubleLinkedList<Integer> list) {
+		int reps = 1_000_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < reps; i++) {
+			list.addToRear(list.removeFirst());
+		}
+		return (System.nanoTime() - start) / (double) reps;
+	}
+
+	/**
+	 * Loading an array of elements one add at a time versus addAll, at the
+	 * rear of an empty list and into the middle of a list of 1000.
+	 */
+	private static void benchAddAll() {
+		printHeader("Bulk load (ns/element)", "addToRear loop", "addAll", "add(mid) loop", "addAll(mid)");
+		for (int size : SIZES) {
+			List<Integer> values = Arrays.asList(new Integer[size]);
+			for (int i = 0; i < size; i++) {
+				values.set(i, i);
+			}
+			double rearLoop = 0, rearBulk = 0, midLoop = 0, midBulk = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				for (Integer value : values) {
+					list.addToRear(value);
+				}
+				rearLoop = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				list = new IUDoubleLinkedList<Integer>();
+				list.addAll(values);
+				rearBulk = (System.nanoTime() - start) / (double) size;
+				sink += list.size();
+
+				int loopSize = Math.min(size, 10_000); // add(mid) in a loop is quadratic
+				list = filledList(1000);
+				start = System.nanoTime();
+				for (int i = 0; i < loopSize; i++) {
+					list.add(500 + i, values.get(i));
+				}
+				midLoop = (System.nanoTime() - start) / (double) loopSize;
+				list = filledList(1000);
+				start = System.nanoTime();
+				list.addAll(500, values);
+				midBulk = (System.nanoTime() - start) / (double) size;
+				sink += list.size();
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f\n", size, rearLoop, rearBulk, midLoop, midBulk);
+		}
+	}
+
+	/**
+	 * Summing a CPU heavy function of every element with a sequential
+	 * stream, a parallel stream over the default iterator based
+	 * spliterator, and parallelStream() over the node spliterator.
+	 */
+	private static void benchStream() {
+		printHeader("Stream sum (ns/element, " + Runtime.getRuntime().availableProcessors() + " cores)",
+				"sequential", "parallel(iter)", "parallelStream");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			double sequential = 0, iteratorParallel = 0, nodeParallel = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				sink += list.stream().mapToLong(ListBenchmark::work).sum();
+				sequential = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += StreamSupport.stream(Spliterators.spliteratorUnknownSize(list.iterator(), 0), true)
+						.mapToLong(ListBenchmark::work).sum();
+				iteratorParallel = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += list.parallelStream().mapToLong(ListBenchmark::work).sum();
+				nodeParallel = (System.nanoTime() - start) / (double) size;
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f\n", size, sequential, iteratorParallel, nodeParallel);
+		}
+	}
+
+	/**
+	 * A few dozen nanoseconds of arithmetic per element, so stream
+	 * benchmarks measure splitting rather than just memory bandwidth
+	 * @param value the element
+	 * @return a value depending on every step
+	 */
+	private static long work(int value) {
+		long x = value;
+		for (int i = 0; i < 50; i++) {
+			x = x * 6364136223846793005L + 1442695040888963407L;
+		}
+		return x >>> 60;
+	}
+
+	/**
+	 * Summing every element with an external hasNext()/next() loop,
+	 * forEach() on the list and forEachRemaining() on an iterator
+	 */
+	private static void benchForEach() {
+		printHeader("Traversal (ns/element)", "iterator loop", "forEach", "forEachRemaining");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			long[] total = new long[1];
+			double external = 0, internal = 0, remaining = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				long sum = 0;
+				Iterator<Integer> iterator = list.iterator();
+				while (iterator.hasNext()) {
+					sum += iterator.next();
+				}
+				external = (System.nanoTime() - start) / (double) size;
+				sink += sum;
+				start = System.nanoTime();
+				list.forEach(value -> total[0] += value);
+				internal = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				list.iterator().forEachRemaining(value -> total[0] += value);
+				remaining = (System.nanoTime() - start) / (double) size;
+			}
+			sink += total[0];
+			System.out.printf("%12d%18.2f%18.2f%18.2f\n", size, external, internal, remaining);
+		}
+	}
+
+	/**
+	 * Removing every other element with an iterator remove() loop versus
+	 * removeIf(), and removeAll() of a 1000 element ArrayList, which is
+	 * copied into a HashSet instead of being scanned for every node.
+	 */
+	private static void benchRemoveIf() {
+		printHeader("Bulk removal (ns/element)", "iterator remove", "removeIf", "removeAll(1000)");
+		List<Integer> doomed = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i++) {
+			doomed.add(i * 2);
+		}
+		for (int size : SIZES) {
+			double loop = 0, bulk = 0, all = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				IUDoubleLinkedList<Integer> list = filledList(size);
+				long start = System.nanoTime();
+				Iterator<Integer> iterator = list.iterator();
+				while (iterator.hasNext()) {
+					if ((iterator.next() & 1) == 0) {
+						iterator.remove();
+					}
+				}
+				loop = (System.nanoTime() - start) / (double) size;
+				sink += list.size();
+				list = filledList(size);
+				start = System.nanoTime();
+				list.removeIf(value -> (value & 1) == 0);
+				bulk = (System.nanoTime() - start) / (double) size;
+				sink += list.size();
+				list = filledList(size);
+				start = System.nanoTime();
+				list.removeAll(doomed);
+				all = (System.nanoTime() - start) / (double) size;
+				sink += list.size();
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f\n", size, loop, bulk, all);
+		}
+	}
+
+	/**
+	 * Incrementing every element with a set(i, get(i) + 1) loop, a
+	 * ListIterator set() loop and replaceAll()
+	 */
+	private static void benchReplaceAll() {
+		printHeader("Rewrite all (ns/element)", "set(i) loop", "iterator set", "replaceAll");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			double indexed = 0, iterated = 0, bulk = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				for (int i = 0; i < size; i++) {
+					list.set(i, list.get(i) + 1);
+				}
+				indexed = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				ListIterator<Integer> iterator = list.listIterator();
+				while (iterator.hasNext()) {
+					iterator.set(iterator.next() + 1);
+				}
+				iterated = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				list.replaceAll(value -> value + 1);
+				bulk = (System.nanoTime() - start) / (double) size;
+			}
+			sink += list.first();
+			System.out.printf("%12d%18.2f%18.2f%18.2f\n", size, indexed, iterated, bulk);
+		}
+	}
+
+	/**
+	 * Sorting random Integers by copying them to an array, sorting that
+	 * and building a new list, versus the in place merge sort. Also
+	 * reports the bytes each approach allocated.
+	 */
+	private static void benchSort() {
+		printHeader("Sort (ms)", "copy-sort-rebuild", "sort()", "rebuild MB", "sort() MB");
+		Random random = new Random(42);
+		for (int size : SORT_SIZES) {
+			Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = random.nextInt();
+			}
+			double copyTime = 0, sortTime = 0, copyBytes = 0, sortBytes = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				list.addAll(Arrays.asList(values));
+				long bytes = allocatedBytes();
+				long start = System.nanoTime();
+				Object[] copy = new Object[list.size()];
+				int i = 0;
+				for (Integer value : list) {
+					copy[i++] = value;
+				}
+				Arrays.sort(copy);
+				IUDoubleLinkedList<Integer> rebuilt = new IUDoubleLinkedList<Integer>();
+				for (Object value : copy) {
+					rebuilt.addToRear((Integer) value);
+				}
+				copyTime = (System.nanoTime() - start) / 1e6;
+				copyBytes = (allocatedBytes() - bytes) / 1e6;
+				sink += rebuilt.first();
+				copy = null;
+				rebuilt = null;
+
+				bytes = allocatedBytes();
+				start = System.nanoTime();
+				list.sort(null);
+				sortTime = (System.nanoTime() - start) / 1e6;
+				sortBytes = (allocatedBytes() - bytes) / 1e6;
+				sink += list.first();
+			}
+			System.out.printf("%12d%18.1f%18.1f%18.1f%18.1f\n", size, copyTime, sortTime, copyBytes, sortBytes);
+		}
+	}
+
+	/**
+	 * sort() against parallelSort() run inside ForkJoinPools of 1, 2, 4
+	 * and 8 workers. Every column sorts a fresh list built from the same
+	 * random Integers, so each one gets equal input.
+	 */
+	private static void benchParallelSort() {
+		int[] threadCounts = {1, 2, 4, 8};
+		String[] columns = new String[threadCounts.length + 1];
+		columns[0] = "sort()";
+		for (int i = 0; i < threadCounts.length; i++) {
+			columns[i + 1] = threadCounts[i] + " threads";
+		}
+		printHeader("Parallel sort (ms, " + Runtime.getRuntime().availableProcessors() + " cores)", columns);
+		Random random = new Random(42);
+		for (int size : SORT_SIZES) {
+			Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = random.nextInt();
+			}
+			double[] times = new double[threadCounts.length + 1];
+			for (int round = 0; round <= 1; round++) { // sorts this large need little warmup
+				IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+				list.addAll(Arrays.asList(values));
+				long start = System.nanoTime();
+				list.sort(null);
+				times[0] = (System.nanoTime() - start) / 1e6;
+				for (int i = 0; i < threadCounts.length; i++) {
+					list = new IUDoubleLinkedList<Integer>();
+					list.addAll(Arrays.asList(values));
+					IUDoubleLinkedList<Integer> toSort = list;
+					ForkJoinPool pool = new ForkJoinPool(threadCounts[i]);
+					start = System.nanoTime();
+					try {
+						pool.submit(() -> toSort.parallelSort(null)).get();
+					} catch (InterruptedException | ExecutionException e) {
+						throw new RuntimeException(e);
+					} finally {
+						pool.shutdown();
+					}
+					times[i + 1] = (System.nanoTime() - start) / 1e6;
+					sink += list.first();
+				}
+			}
+			System.out.printf("%12d", size);
+			for (double time : times) {
+				System.out.printf("%18.1f", time);
+			}
+			System.out.println();
+		}
+	}
+
+	/**
+	 * Snapshotting a list into an array through its iterator versus
+	 * toArray(), and loading an array with an addToRear loop versus
+	 * fromArray()
+	 */
+	private static void benchToArray() {
+		printHeader("Array conversion (ns/element)", "iterator copy", "toArray(A[])", "addToRear loop", "fromArray");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = filledList(size);
+			Integer[] values = new Integer[size];
+			double iterated = 0, bulkOut = 0, looped = 0, bulkIn = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				Integer[] copy = new Integer[list.size()];
+				int i = 0;
+				for (Integer value : list) {
+					copy[i++] = value;
+				}
+				iterated = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				values = list.toArray(new Integer[0]);
+				bulkOut = (System.nanoTime() - start) / (double) size;
+				sink += copy.length + values.length;
+
+				start = System.nanoTime();
+				IUDoubleLinkedList<Integer> loaded = new IUDoubleLinkedList<Integer>();
+				for (Integer value : values) {
+					loaded.addToRear(value);
+				}
+				looped = (System.nanoTime() - start) / (double) size;
+				sink += loaded.size();
+				start = System.nanoTime();
+				loaded = IUDoubleLinkedList.fromArray(values);
+				bulkIn = (System.nanoTime() - start) / (double) size;
+				sink += loaded.size();
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f\n", size, iterated, bulkOut, looped, bulkIn);
+		}
+	}
+
+	/**
+	 * A work queue drained by polling: each round offers size elements and
+	 * polls until empty, through the list's own offerLast()/pollFirst(),
+	 * through asDeque(), and through ArrayDeque and LinkedList for
+	 * reference. None of those pool nodes, so a list with a node pool as
+	 * large as the queue is reported in its own column.
+	 */
+	private static void benchDeque() {
+		printHeader("Queue offer+poll (ns/element)", "list", "asDeque()", "pooled list", "ArrayDeque", "LinkedList");
+		for (int size : SIZES) {
+			IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+			Deque<Integer> view = list.asDeque();
+			Deque<Integer> pooled = new IUDoubleLinkedList<Integer>(size).asDeque();
+			Deque<Integer> arrayDeque = new ArrayDeque<Integer>();
+			Deque<Integer> linkedList = new LinkedList<Integer>();
+			double direct = 0, adapted = 0, recycled = 0, reference = 0, linked = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				long start = System.nanoTime();
+				for (int i = 0; i < size; i++) {
+					list.offerLast(i);
+				}
+				for (Integer value = list.pollFirst(); value != null; value = list.pollFirst()) {
+					sink += value;
+				}
+				direct = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += drain(view, size);
+				adapted = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += drain(pooled, size);
+				recycled = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += drain(arrayDeque, size);
+				reference = (System.nanoTime() - start) / (double) size;
+				start = System.nanoTime();
+				sink += drain(linkedList, size);
+				linked = (System.nanoTime() - start) / (double) size;
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f%18.2f\n", size, direct, adapted, recycled, reference, linked);
+		}
+	}
+
+	/**
+	 * Offers 0 to count-1 to a deque, then polls it until empty
+	 * @param deque the deque to fill and drain
+	 * @param count number of elements to offer
+	 * @return sum of the polled elements
+	 */
+	private static long drain(Deque<Integer> deque, int count) {
+		for (int i = 0; i < count; i++) {
+			deque.offerLast(i);
+		}
+		long sum = 0;
+		for (Integer value = deque.pollFirst(); value != null; value = deque.pollFirst()) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	/**
+	 * Keeping the last 1000 of a stream of events: addToRear then a manual
+	 * removeFirst() once full, versus a bounded DROP_OLDEST list that
+	 * evicts inside the insert. Also reports bytes allocated per event.
+	 */
+	private static void benchBounded() {
+		printHeader("Last 1000 history (per event)", "manual ns", "bounded ns", "manual B", "bounded B");
+		Integer[] events = new Integer[1024];
+		for (int i = 0; i < events.length; i++) {
+			events[i] = i;
+		}
+		for (int size : SIZES) {
+			double manualTime = 0, boundedTime = 0, manualBytes = 0, boundedBytes = 0;
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				IUDoubleLinkedList<Integer> manual = new IUDoubleLinkedList<Integer>();
+				long bytes = allocatedBytes();
+				long start = System.nanoTime();
+				for (int i = 0; i < size; i++) {
+					manual.addToRear(events[i & 1023]);
+					if (manual.size() > 1000) {
+						manual.removeFirst();
+					}
+				}
+				manualTime = (System.nanoTime() - start) / (double) size;
+				manualBytes = (allocatedBytes() - bytes) / (double) size;
+				sink += manual.size();
+
+				IUDoubleLinkedList<Integer> bounded = new IUDoubleLinkedList<Integer>(1000,
+						IUDoubleLinkedList.EvictionPolicy.DROP_OLDEST, null);
+				bytes = allocatedBytes();
+				start = System.nanoTime();
+				for (int i = 0; i < size; i++) {
+					bounded.addToRear(events[i & 1023]);
+				}
+				boundedTime = (System.nanoTime() - start) / (double) size;
+				boundedBytes = (allocatedBytes() - bytes) / (double) size;
+				sink += bounded.size();
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f\n", size, manualTime, boundedTime, manualBytes, boundedBytes);
+		}
+	}
+
+	/**
+	 * Throughput of a shared synchronized LRUCache, LRU and CLOCK, with 1, 4
+	 * and 16 threads each doing get() and put() on a miss. Keys are skewed
+	 * so a few are hot, like real cache traffic. Rows are thread counts.
+	 */
+	private static void benchLRUCache() {
+		int[] threadCounts = {1, 4, 16};
+		int capacity = 10_000;
+		int totalOps = 4_000_000;
+		System.out.println("\nShared LRUCache, capacity " + capacity + " (" + Runtime.getRuntime().availableProcessors() + " cores)");
+		System.out.printf("%12s%18s%18s%18s%18s\n", "threads", "LRU Mops/s", "CLOCK Mops/s", "LRU hit %", "CLOCK hit %");
+		for (int threads : threadCounts) {
+			double[] throughput = new double[2];
+			double[] hitRatio = new double[2];
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				for (LRUCache.Policy policy : LRUCache.Policy.values()) {
+					LRUCache<Integer, Integer> cache = LRUCache.synchronizedCache(capacity, policy);
+					long elapsed = runCacheThreads(cache, threads, totalOps / threads);
+					throughput[policy.ordinal()] = totalOps / (elapsed / 1e3);
+					hitRatio[policy.ordinal()] = 100.0 * cache.hitCount() / (cache.hitCount() + cache.missCount());
+				}
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.1f%18.1f\n", threads, throughput[0], throughput[1], hitRatio[0], hitRatio[1]);
+		}
+	}
+
+	/**
+	 * Starts threads that each run opsPerThread lookups against the cache
+	 * at once, and waits for all of them
+	 * @param cache the shared cache
+	 * @param threads number of threads
+	 * @param opsPerThread lookups per thread
+	 * @return nanoseconds from start to the last thread finishing
+	 */
+	private static long runCacheThreads(LRUCache<Integer, Integer> cache, int threads, int opsPerThread) {
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			long seed = t;
+			new Thread(() -> {
+				Random random = new Random(seed);
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < opsPerThread; i++) {
+					double u = random.nextDouble();
+					Integer key = (int) (u * u * u * 100_000); // cubing skews toward small keys
+					if (cache.get(key) == null) {
+						cache.put(key, key);
+					}
+				}
+				done.countDown();
+			}).start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		return System.nanoTime() - begin;
+	}
+	/**
+	 * Throughput of a shared list of 1000 under read-heavy traffic, 90% and
+	 * 99% reads, with 1, 2, 4 and 8 threads. Reads are size(), first(),
+	 * last() and get() at a random index; a write is addToRear() then
+	 * removeFirst(). ConcurrentIndexedList, with optimistic reads, is
+	 * compared with an IUDoubleLinkedList where every call synchronizes on
+	 * the list. Rows are thread counts.
+	 */
+	private static void benchConcurrentList() {
+		int[] threadCounts = {1, 2, 4, 8};
+		int[] readPercents = {90, 99};
+		int size = 1000;
+		int totalOps = 2_000_000;
+		System.out.println("\nShared list of " + size + ", read-heavy (" + Runtime.getRuntime().availableProcessors() + " cores)");
+		System.out.printf("%12s%18s%18s%18s%18s\n", "threads", "sync 90% Mops/s", "stamped 90%", "sync 99% Mops/s", "stamped 99%");
+		for (int threads : threadCounts) {
+			double[] throughput = new double[4];
+			for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+				for (int r = 0; r < readPercents.length; r++) {
+					IUDoubleLinkedList<Integer> synced = filledList(size);
+					long elapsed = runListThreads(synced, synced, threads, totalOps / threads, readPercents[r], size);
+					throughput[2 * r] = totalOps / (elapsed / 1e3);
+
+					ConcurrentIndexedList<Integer> stamped = new ConcurrentIndexedList<Integer>();
+					for (int i = 0; i < size; i++) {
+						stamped.addToRear(i);
+					}
+					elapsed = runListThreads(stamped, null, threads, totalOps / threads, readPercents[r], size);
+					throughput[2 * r + 1] = totalOps / (elapsed / 1e3);
+				}
+			}
+			System.out.printf("%12d%18.2f%18.2f%18.2f%18.2f\n", threads, throughput[0], throughput[1], throughput[2], throughput[3]);
+		}
+	}
+
+	/**
+	 * Starts threads that each run opsPerThread mixed reads and writes
+	 * against the list at once, and waits for all of them. Writes add one
+	 * element before removing one, so the list never drops below minSize.
+	 * @param list the shared list
+	 * @param monitor object to synchronize every call on, or null if the list is thread-safe
+	 * @param threads number of threads
+	 * @param opsPerThread operations per thread
+	 * @param readPercent percentage of operations that are reads
+	 * @param minSize smallest the list gets
+	 * @return nanoseconds from start to the last thread finishing
+	 */
+	private static long runListThreads(IndexedUnsortedList<Integer> list, Object monitor, int threads,
+			int opsPerThread, int readPercent, int minSize) {
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			long seed = t;
+			new Thread(() -> {
+				Random random = new Random(seed);
+				long sum = 0;
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < opsPerThread; i++) {
+					int roll = random.nextInt(100);
+					if (monitor == null) {
+						sum += listOp(list, roll, readPercent, random, minSize);
+					} else {
+						synchronized (monitor) {
+							sum += listOp(list, roll, readPercent, random, minSize);
+						}
+					}
+				}
+				synchronized (ListBenchmark.class) {
+					sink += sum;
+				}
+				done.countDown();
+			}).start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		return System.nanoTime() - begin;
+	}
+
+	/**
+	 * One operation of the read-heavy mix
+	 * @param list the list
+	 * @param roll 0 to 99, picks the operation
+	 * @param readPercent rolls below this are reads
+	 * @param random source of indexes
+	 * @param minSize smallest the list gets, so get() stays in range
+	 * @return a value to feed the sink
+	 */
+	private static int listOp(IndexedUnsortedList<Integer> list, int roll, int readPercent, Random random, int minSize) {
+		if (roll >= readPercent) {
+			list.addToRear(roll);
+			return list.removeFirst();
+		}
+		switch (roll & 3) {
+		case 0:
+			return list.size();
+		case 1:
+			return list.first();
+		case 2:
+			return list.last();
+		default:
+			return list.get(random.nextInt(minSize));
+		}
+	}
+}
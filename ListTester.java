@@ -1,7 +1,18 @@
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 /**
  * A unit test class for lists that implement IndexedUnsortedList. 
@@ -17,7 +28,8 @@ import java.util.NoSuchElementException;
 public class ListTester {
 	//possible lists that could be tested
 	private static enum ListToUse {
-		goodList, badList, arrayList, singleLinkedList, doubleLinkedList
+		goodList, badList, arrayList, singleLinkedList, doubleLinkedList, treeList, unrolledLinkedList, indexLinkedList,
+		concurrentList
 	};
 	// TODO: THIS IS WHERE YOU CHOOSE WHICH LIST TO TEST
 	private final static ListToUse LIST_TO_USE = ListToUse.doubleLinkedList;
@@ -26,6 +38,7 @@ public class ListTester {
 	private enum Result {
 		IndexOutOfBounds, IllegalState, NoSuchElement, 
 		ConcurrentModification, UnsupportedOperation, 
+		IllegalArgument, NullPointer,
 		NoException, UnexpectedException,
 		True, False, Pass, Fail, 
 		MatchingValue,
@@ -84,6 +97,10 @@ public class ListTester {
 		}
 		switch (LIST_TO_USE) {
 		case doubleLinkedList:
+		case treeList:
+		case unrolledLinkedList:
+		case indexLinkedList:
+		case concurrentList:
 			SUPPORTS_LIST_ITERATOR = true;
 			break;
 		default:
@@ -173,6 +190,9 @@ public class ListTester {
 		testEmptyList(A_remove0_emptyList, "A_remove0_emptyList");		
 		testEmptyList(A_iterRemoveAfterNextA_emptyList, "A_iterRemoveAfterNextA_emptyList");		
 		testEmptyList(A_iterRemoveAfterPreviousA_emptyList, "A_iterRemoveAfterPreviousA_emptyList");		
+		testEmptyList(A_clear_emptyList, "A_clear_emptyList");
+		//3-element to empty list
+		testEmptyList(ABC_clear_emptyList, "ABC_clear_emptyList");
 		//empty to 1-element list
 		testSingleElementList(emptyList_addToFrontA_A, "emptyList_addToFrontA_A", LIST_A, STRING_A);
 		testSingleElementList(emptyList_addToRearA_A, "emptyList_addToRearA_A", LIST_A, STRING_A);
@@ -251,6 +271,36 @@ public class ListTester {
 		if (SUPPORTS_LIST_ITERATOR) {
 			test_ListIterConcurrency();
 		}
+		//several threads sharing one list
+		if (LIST_TO_USE == ListToUse.concurrentList) {
+			test_ThreadSafety();
+		}
+		//block splits and merges past what the scenarios above reach
+		test_UnrolledLinkedList();
+		//slot array growth and free list reuse
+		test_IndexLinkedList();
+		//methods only IUDoubleLinkedList has
+		if (LIST_TO_USE == ListToUse.doubleLinkedList) {
+			test_GetFromEnds();
+			test_IntDoubleLinkedList();
+			test_NodePool();
+			test_HashIndex();
+			test_Spliterator();
+			test_Sort();
+			test_ParallelSort();
+			test_Handles();
+			test_AddAll();
+			test_Splice();
+			test_SubList();
+			test_ForEach();
+			test_RemoveIf();
+			test_SetRange();
+			test_ToArray();
+			test_Reverse();
+			test_Deque();
+			test_Bounded();
+			test_LRUCache();
+		}
 
 		// report final verdict
 		printFinalSummary();
@@ -286,6 +336,18 @@ public class ListTester {
 		case doubleLinkedList:
 			listToUse = new IUDoubleLinkedList<Integer>();
 			break;
+		case treeList:
+			listToUse = new IUTreeList<Integer>();
+			break;
+		case unrolledLinkedList:
+			listToUse = new IUUnrolledLinkedList<Integer>(2);
+			break;
+		case indexLinkedList:
+			listToUse = new IUIndexLinkedList<Integer>(1);
+			break;
+		case concurrentList:
+			listToUse = new ConcurrentIndexedList<Integer>();
+			break;
 		default:
 			listToUse = null;
 		}
@@ -361,6 +423,26 @@ public class ListTester {
 	}
 	private Scenario<Integer> A_iterRemoveAfterPreviousA_emptyList = () -> A_iterRemoveAfterPreviousA_emptyList();
 
+	/** Scenario: [A] -> clear() -> [ ] 
+	 * @return [ ] after clear()
+	 */
+	private IndexedUnsortedList<Integer> A_clear_emptyList() {
+		IndexedUnsortedList<Integer> list = emptyList_addToFrontA_A(); 
+		list.clear();
+		return list;
+	}
+	private Scenario<Integer> A_clear_emptyList = () -> A_clear_emptyList();
+
+	/** Scenario: [A,B,C] -> clear() -> [ ] 
+	 * @return [ ] after clear()
+	 */
+	private IndexedUnsortedList<Integer> ABC_clear_emptyList() {
+		IndexedUnsortedList<Integer> list = AB_addC_ABC(); 
+		list.clear();
+		return list;
+	}
+	private Scenario<Integer> ABC_clear_emptyList = () -> ABC_clear_emptyList();
+
 	/** Scenario: empty list -> addToFront(A) -> [A] 
 	 * @return [A] after addToFront(A)
 	 */
@@ -1259,6 +1341,8 @@ public class ListTester {
 				printTest(scenarioName + "_testListIter1PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), Result.NoException));
 				printTest(scenarioName + "_testListIter1PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));			
 				printTest(scenarioName + "_testListIter1PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(1), 1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIterNextRemoveNextIndex", testListIterNextIndex(listIterAfterRemove(listIterAfterNext(scenario.build().listIterator(), 1)), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1PreviousRemoveNext", testIterNext(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1)), null, Result.NoSuchElement));
 		  } else {
 				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
 				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
@@ -1420,6 +1504,9 @@ public class ListTester {
 				printTest(scenarioName + "_testListIter2PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 1), 1), Result.NoException));
 				printTest(scenarioName + "_testListIter2PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 1), 1), ELEMENT_X, Result.NoException));			
 				printTest(scenarioName + "_testListIter2PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(2), 1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter1PreviousRemoveNext", testIterNext(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1)), contents[1], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter1PreviousRemoveNextIndex", testListIterNextIndex(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(1), 1)), 0, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2PreviousRemoveNext", testIterNext(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 1)), null, Result.NoSuchElement));
 		  } else {
 				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
 				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
@@ -1612,6 +1699,9 @@ public class ListTester {
 				printTest(scenarioName + "_testListIter3PreviousNextRemove", testIterRemove(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 1), 1), Result.NoException));
 				printTest(scenarioName + "_testListIter3PreviousNextAdd", testListIterAdd(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 1), 1), ELEMENT_X, Result.NoException));			
 				printTest(scenarioName + "_testListIter3PreviousNextSet", testListIterSet(listIterAfterNext(listIterAfterPrevious(scenario.build().listIterator(3), 1), 1), ELEMENT_X, Result.NoException));
+				printTest(scenarioName + "_testListIter2PreviousRemoveNext", testIterNext(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 1)), contents[2], Result.MatchingValue));
+				printTest(scenarioName + "_testListIter2PreviousRemoveNextIndex", testListIterNextIndex(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(2), 1)), 1, Result.MatchingValue));
+				printTest(scenarioName + "_testListIter3PreviousRemoveNext", testIterNext(listIterAfterRemove(listIterAfterPrevious(scenario.build().listIterator(3), 1)), null, Result.NoSuchElement));
 		  } else {
 				printTest(scenarioName + "_testListIter", testListIter(scenario.build(), Result.UnsupportedOperation));
 				printTest(scenarioName + "_testListIter0", testListIter(scenario.build(), 0, Result.UnsupportedOperation));
@@ -2575,6 +2665,19 @@ public class ListTester {
 			list.removeLast();
 			printTest("A_removeLast_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));			
 
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.clear();
+			printTest("A_clear_testIterHasNextConcurrent", testIterHasNext(it1, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.clear();
+			printTest("A_clear_testIterNextConcurrent", testIterNext(it1, ELEMENT_A, Result.ConcurrentModification));
+			list = emptyList_addToFrontA_A();
+			it1 = list.iterator();
+			list.clear();
+			printTest("A_clear_testIterRemoveConcurrent", testIterRemove(it1, Result.ConcurrentModification));
+
 			list = emptyList_addToFrontA_A();
 			it1 = list.iterator();
 			list.remove(ELEMENT_A);
@@ -4063,6 +4166,1453 @@ public class ListTester {
 			}
 		}
 	}
+
+	////////////////////////////////////////////////////////
+	// XXX Thread Safety Tests
+	////////////////////////////////////////////////////////
+
+	/** Starts the given number of threads running action, waits for all of them and
+	 * counts the ones that threw
+	 * @param threads number of threads
+	 * @param action what each thread runs, given its thread number
+	 * @return number of threads that threw
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	private int runThreads(int threads, IntConsumer action) throws InterruptedException {
+		AtomicInteger failed = new AtomicInteger();
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			int id = t;
+			workers[t] = new Thread(() -> {
+				try {
+					action.accept(id);
+				} catch (RuntimeException | Error e) {
+					System.out.printf("%s caught unexpected %s\n", "runThreads", e.toString());
+					failed.incrementAndGet();
+				}
+			});
+			workers[t].start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		return failed.get();
+	}
+
+	/** run tests with several threads adding, removing and reading at once */
+	private void test_ThreadSafety() {
+		System.out.println("\nThread Safety Tests\n");
+		try {
+			IndexedUnsortedList<Integer> list = newList();
+			printTest("4Threads_add1000_testNoException", runThreads(4, id -> {
+				for (int i = 0; i < 1000; i++) {
+					list.addToRear(id);
+				}
+			}) == 0);
+			printTest("4Threads_add1000_testSize", testSize(list, 4000));
+
+			//writers keep at least 100 elements, so reads of the first 100 always succeed
+			IndexedUnsortedList<Integer> churn = newList();
+			for (int i = 0; i < 100; i++) {
+				churn.addToRear(i);
+			}
+			printTest("4Threads_churnAndRead_testNoException", runThreads(4, id -> {
+				for (int i = 0; i < 20_000; i++) {
+					switch ((id + i) % 5) {
+					case 0:
+						churn.addToRear(i);
+						churn.removeFirst();
+						break;
+					case 1:
+						churn.addToFront(i);
+						churn.removeLast();
+						break;
+					case 2:
+						if (churn.size() < 100 || churn.get(i % 100) == null) {
+							throw new IllegalStateException("read below the floor");
+						}
+						break;
+					case 3:
+						churn.first();
+						churn.last();
+						churn.contains(i);
+						break;
+					default:
+						try {
+							Iterator<Integer> it = churn.iterator();
+							while (it.hasNext()) {
+								it.next();
+							}
+						} catch (ConcurrentModificationException e) {
+							// expected when a writer gets in between two calls
+						}
+					}
+				}
+			}) == 0);
+			printTest("4Threads_churnAndRead_testSize", testSize(churn, 100));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ThreadSafety");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////
+	// XXX IUDoubleLinkedList Extension Tests
+	// Methods beyond IndexedUnsortedList, so these only run
+	// when testing the doubleLinkedList.
+	////////////////////////////////////////////////////////
+
+	/** Builds an IUDoubleLinkedList holding the given elements
+	 * @param elements elements to add to the rear, in order
+	 * @return the new list
+	 */
+	private IUDoubleLinkedList<Integer> dllOf(Integer... elements) {
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (Integer element : elements) {
+			list.addToRear(element);
+		}
+		return list;
+	}
+
+	/** Checks size(), iteration order and get() of a list against expected contents
+	 * @param list the list to check
+	 * @param contents elements expected, in order
+	 * @return test success
+	 */
+	private boolean testContents(IndexedUnsortedList<Integer> list, Integer... contents) {
+		try {
+			if (list.size() != contents.length) {
+				return false;
+			}
+			int index = 0;
+			for (Integer element : list) {
+				if (index == contents.length || !element.equals(contents[index])) {
+					return false;
+				}
+				index++;
+			}
+			if (index != contents.length) {
+				return false;
+			}
+			for (index = 0; index < contents.length; index++) {
+				if (!list.get(index).equals(contents[index])) {
+					return false;
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testContents", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Checks that size(), iteration and get() agree with each other, whatever the contents
+	 * @param list the list to check
+	 * @return test success
+	 */
+	private boolean testConsistent(IndexedUnsortedList<Integer> list) {
+		try {
+			int index = 0;
+			for (Integer element : list) {
+				if (index == list.size() || list.get(index) != element) {
+					return false;
+				}
+				index++;
+			}
+			return index == list.size();
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testConsistent", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** Runs an action and checks the exception it throws, if any, against expectedResult
+	 * @param action the call to make
+	 * @param expectedResult
+	 * @return test success
+	 */
+	private boolean testAction(Runnable action, Result expectedResult) {
+		Result result;
+		try {
+			action.run();
+			result = Result.NoException;
+		} catch (IndexOutOfBoundsException e) {
+			result = Result.IndexOutOfBounds;
+		} catch (IllegalStateException e) {
+			result = Result.IllegalState;
+		} catch (IllegalArgumentException e) {
+			result = Result.IllegalArgument;
+		} catch (NoSuchElementException e) {
+			result = Result.NoSuchElement;
+		} catch (ConcurrentModificationException e) {
+			result = Result.ConcurrentModification;
+		} catch (UnsupportedOperationException e) {
+			result = Result.UnsupportedOperation;
+		} catch (NullPointerException e) {
+			result = Result.NullPointer;
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testAction", e.toString());
+			e.printStackTrace();
+			result = Result.UnexpectedException;
+		}
+		return result == expectedResult;
+	}
+
+	/** Builds a list of 0 to size-1 in descending order
+	 * @param size number of elements
+	 * @return [size-1, ..., 1, 0]
+	 */
+	private IUDoubleLinkedList<Integer> descendingList(int size) {
+		IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+		for (int i = size - 1; i >= 0; i--) {
+			list.addToRear(i);
+		}
+		return list;
+	}
+
+	/** Checks that a list holds 0 to size-1 in ascending order
+	 * @param list the list to check
+	 * @param size number of elements expected
+	 * @return test success
+	 */
+	private boolean testAscending(IndexedUnsortedList<Integer> list, int size) {
+		Integer[] contents = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			contents[i] = i;
+		}
+		return testContents(list, contents);
+	}
+
+	/** run getFromEnds() and containsWithin() tests */
+	private void test_GetFromEnds() {
+		System.out.println("\nGetFromEnds Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D);
+			printTest("ABCD_testGetFromEnds0", list.getFromEnds(0).equals(ELEMENT_A));
+			printTest("ABCD_testGetFromEnds1", list.getFromEnds(1).equals(ELEMENT_B));
+			printTest("ABCD_testGetFromEnds3", list.getFromEnds(3).equals(ELEMENT_D));
+			printTest("ABCD_testGetFromEndsNeg1", testAction(() -> list.getFromEnds(-1), Result.IndexOutOfBounds));
+			printTest("ABCD_testGetFromEnds4", testAction(() -> list.getFromEnds(4), Result.IndexOutOfBounds));
+			printTest("emptyList_testGetFromEnds0", testAction(() -> new IUDoubleLinkedList<Integer>().getFromEnds(0), Result.IndexOutOfBounds));
+			printTest("ABCD_testContainsWithin3C", list.containsWithin(ELEMENT_C, 3));
+			printTest("ABCD_testContainsWithin2C", !list.containsWithin(ELEMENT_C, 2));
+			printTest("ABCD_testContainsWithinSizeX", !list.containsWithin(ELEMENT_X, list.size()));
+			printTest("ABCD_testContainsWithinNeg1A", !list.containsWithin(ELEMENT_A, -1));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_GetFromEnds");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run IntDoubleLinkedList tests: clear(), error paths, and a seeded run of random
+	 * operations checked against an ArrayList doing the same
+	 */
+	private void test_IntDoubleLinkedList() {
+		System.out.println("\nIntDoubleLinkedList Tests\n");
+		try {
+			IntDoubleLinkedList list = new IntDoubleLinkedList();
+			list.addToRear(1);
+			list.addToRear(2);
+			list.addToRear(3);
+			PrimitiveIterator.OfInt it = list.iterator();
+			list.clear();
+			printTest("intABC_clear_testIsEmpty", list.isEmpty() && list.size() == 0);
+			printTest("intABC_clear_testToString", list.toString().equals("[]"));
+			printTest("intABC_clear_testIterNextConcurrent", testAction(() -> it.nextInt(), Result.ConcurrentModification));
+			printTest("intABC_clear_testRemoveFirst", testAction(() -> list.removeFirst(), Result.NoSuchElement));
+			printTest("intABC_clear_testLast", testAction(() -> list.last(), Result.NoSuchElement));
+			printTest("intABC_clear_testGet0", testAction(() -> list.get(0), Result.IndexOutOfBounds));
+			printTest("intABC_clear_testRemoveElementX", testAction(() -> list.removeElement(ELEMENT_X), Result.NoSuchElement));
+			list.addToFront(4);
+			printTest("intABC_clearAddToFrontD_testFirstLast", list.first() == 4 && list.last() == 4 && list.size() == 1);
+
+			Random random = new Random(6);
+			List<Integer> expected = new ArrayList<Integer>();
+			IntDoubleLinkedList actual = new IntDoubleLinkedList();
+			boolean matches = true;
+			for (int op = 0; op < 20_000 && matches; op++) {
+				int value = random.nextInt(20);
+				int choice = random.nextInt(expected.isEmpty() ? 3 : 10);
+				switch (choice) {
+				case 0:
+					actual.addToFront(value);
+					expected.add(0, value);
+					break;
+				case 1:
+					actual.addToRear(value);
+					expected.add(value);
+					break;
+				case 2:
+					int insertAt = random.nextInt(expected.size() + 1);
+					actual.add(insertAt, value);
+					expected.add(insertAt, value);
+					break;
+				case 3:
+					matches = actual.removeFirst() == expected.remove(0);
+					break;
+				case 4:
+					matches = actual.removeLast() == expected.remove(expected.size() - 1);
+					break;
+				case 5:
+					int removeAt = random.nextInt(expected.size());
+					matches = actual.remove(removeAt) == expected.remove(removeAt);
+					break;
+				case 6:
+					int setAt = random.nextInt(expected.size());
+					actual.set(setAt, value);
+					expected.set(setAt, value);
+					break;
+				case 7:
+					matches = actual.indexOf(value) == expected.indexOf(value) && actual.contains(value) == expected.contains(value);
+					break;
+				case 8:
+					int getAt = random.nextInt(expected.size());
+					matches = actual.get(getAt) == expected.get(getAt);
+					break;
+				default:
+					if (random.nextInt(50) == 0) {
+						actual.clear();
+						expected.clear();
+					} else if (expected.contains(value)) {
+						actual.removeElement(value);
+						expected.remove(Integer.valueOf(value));
+					}
+				}
+				matches = matches && actual.size() == expected.size();
+			}
+			printTest("intRandomOps_testMatchesArrayList", matches);
+			printTest("intRandomOps_testToString", actual.toString().equals(expected.toString()));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IntDoubleLinkedList");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run IUUnrolledLinkedList tests: a seeded run of random operations checked against
+	 * an ArrayList doing the same, for several block sizes so blocks split and merge often
+	 */
+	private void test_UnrolledLinkedList() {
+		System.out.println("\nIUUnrolledLinkedList Tests\n");
+		try {
+			printTest("testBlockSize1", testAction(() -> new IUUnrolledLinkedList<Integer>(1), Result.IllegalArgument));
+			for (int blockSize : new int[] {2, 3, 4, 32}) {
+				IUUnrolledLinkedList<Integer> list = new IUUnrolledLinkedList<Integer>(blockSize);
+				printTest("unrolled" + blockSize + "_randomOps_testMatchesArrayList", testRandomOps(list, blockSize));
+			}
+
+			//removing most elements leaves the blocks at least half full
+			for (int blockSize : new int[] {4, 5, 32}) {
+				IUUnrolledLinkedList<Integer> sparse = new IUUnrolledLinkedList<Integer>(blockSize);
+				List<Integer> expected = new ArrayList<Integer>();
+				for (int i = 0; i < 100 * blockSize; i++) {
+					sparse.addToRear(i);
+					if (i % blockSize == 0) {
+						expected.add(i);
+					}
+				}
+				Iterator<Integer> it = sparse.iterator();
+				while (it.hasNext()) {
+					if (it.next() % blockSize != 0) {
+						it.remove();
+					}
+				}
+				String name = "unrolled" + blockSize + "_removeAllButEvery" + blockSize + "th";
+				printTest(name + "_testContents", sparse.toString().equals(expected.toString()));
+				printTest(name + "_testBlockCount", sparse.blockCount() <= 100 / (blockSize >> 1) + 2);
+				for (int i = 0; i < 90; i++) {
+					sparse.remove(i % sparse.size());
+				}
+				printTest(name + "_remove90_testBlockCount", sparse.size() == 10 && sparse.blockCount() <= 10 / (blockSize >> 1) + 2);
+			}
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_UnrolledLinkedList");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run IUIndexLinkedList tests: growth from one slot, reuse of freed slots, and a
+	 * seeded run of random operations checked against an ArrayList
+	 */
+	private void test_IndexLinkedList() {
+		System.out.println("\nIUIndexLinkedList Tests\n");
+		try {
+			printTest("testCapacity0", testAction(() -> new IUIndexLinkedList<Integer>(0), Result.IllegalArgument));
+			IUIndexLinkedList<Integer> list = new IUIndexLinkedList<Integer>(1);
+			for (int i = 0; i < 10; i++) {
+				list.addToRear(i);
+			}
+			int grown = list.capacity();
+			printTest("capacity1_add10_testGrown", grown >= 10);
+			printTest("capacity1_add10_testContents", testContents(list, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+			//churn at a steady size takes every slot from the free list
+			boolean churnOk = true;
+			for (int i = 10; i < 1010 && churnOk; i++) {
+				list.addToRear(i);
+				churnOk = list.removeFirst().equals(i - 10);
+			}
+			printTest("capacity1_churn_testCapacityUnchanged", churnOk && list.capacity() == grown);
+			printTest("capacity1_churn_testContents", testContents(list, 1000, 1001, 1002, 1003, 1004, 1005, 1006, 1007, 1008, 1009));
+			for (int i = 0; i < 5; i++) {
+				list.removeLast();
+			}
+			for (int i = 0; i < 5; i++) {
+				list.add(2, ELEMENT_X);
+			}
+			printTest("capacity1_removeLast5_add5_testCapacityUnchanged", list.capacity() == grown);
+			printTest("capacity1_removeLast5_add5_testContents", testContents(list, 1000, 1001, ELEMENT_X, ELEMENT_X, ELEMENT_X, ELEMENT_X, ELEMENT_X, 1002, 1003, 1004));
+
+			printTest("index1_randomOps_testMatchesArrayList", testRandomOps(new IUIndexLinkedList<Integer>(1), 7));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_IndexLinkedList");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Runs a seeded sequence of random adds, removes, sets and lookups on the list and
+	 * on an ArrayList, and compares them after every step
+	 * @param actual the empty list to exercise
+	 * @param seed seed for the random operations
+	 * @return test success
+	 */
+	private boolean testRandomOps(IndexedUnsortedList<Integer> actual, long seed) {
+		try {
+			Random random = new Random(seed);
+			List<Integer> expected = new ArrayList<Integer>();
+			boolean matches = true;
+			for (int op = 0; op < 20_000 && matches; op++) {
+				Integer value = random.nextInt(20);
+				int choice = random.nextInt(expected.isEmpty() ? 3 : 11);
+				switch (choice) {
+				case 0:
+					actual.addToFront(value);
+					expected.add(0, value);
+					break;
+				case 1:
+					actual.addToRear(value);
+					expected.add(value);
+					break;
+				case 2:
+					int insertAt = random.nextInt(expected.size() + 1);
+					actual.add(insertAt, value);
+					expected.add(insertAt, value);
+					break;
+				case 3:
+					matches = actual.removeFirst().equals(expected.remove(0));
+					break;
+				case 4:
+					matches = actual.removeLast().equals(expected.remove(expected.size() - 1));
+					break;
+				case 5:
+					int removeAt = random.nextInt(expected.size());
+					matches = actual.remove(removeAt).equals(expected.remove(removeAt));
+					break;
+				case 6:
+					int setAt = random.nextInt(expected.size());
+					actual.set(setAt, value);
+					expected.set(setAt, value);
+					break;
+				case 7:
+					matches = actual.indexOf(value) == expected.indexOf(value) && actual.contains(value) == expected.contains(value);
+					break;
+				case 8:
+					int getAt = random.nextInt(expected.size());
+					matches = actual.get(getAt).equals(expected.get(getAt));
+					break;
+				case 9:
+					//remove every other element through an iterator
+					Iterator<Integer> it = actual.iterator();
+					Iterator<Integer> expectedIt = expected.iterator();
+					for (int i = 0; it.hasNext() && matches; i++) {
+						matches = it.next().equals(expectedIt.next());
+						if (i % 2 == 0 && random.nextInt(4) == 0) {
+							it.remove();
+							expectedIt.remove();
+						}
+					}
+					break;
+				default:
+					if (random.nextInt(50) == 0) {
+						actual.clear();
+						expected.clear();
+					} else if (expected.contains(value)) {
+						actual.remove(value);
+						expected.remove(value);
+					}
+				}
+				matches = matches && actual.size() == expected.size();
+			}
+			return matches && actual.toString().equals(expected.toString());
+		} catch (Exception e) {
+			System.out.printf("%s caught unexpected %s\n", "testRandomOps", e.toString());
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/** run tests on a list with a node pool: reuse, no leaked elements, fail-fast
+	 * iterators over recycled nodes, and the capacity check
+	 */
+	private void test_NodePool() {
+		System.out.println("\nNode Pool Tests\n");
+		try {
+			printTest("testNodePoolNeg1", testAction(() -> new IUDoubleLinkedList<Integer>(-1), Result.IllegalArgument));
+			IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>(4);
+			for (int i = 0; i < 6; i++) {
+				list.addToRear(i);
+			}
+			printTest("pool4_add6_testPoolEmpty", list.nodePoolHead() == null);
+			for (int i = 0; i < 6; i++) {
+				list.removeFirst();
+			}
+			printTest("pool4_add6_remove6_testPoolSize", countPooledNodes(list) == 4);
+			printTest("pool4_add6_remove6_testPoolHoldsNoElements", poolHoldsNoElements(list));
+
+			//an add takes the pooled node instead of allocating
+			Node<Integer> pooled = list.nodePoolHead();
+			Node<Integer> nextPooled = pooled.getNext();
+			list.addToRear(ELEMENT_A);
+			printTest("pool4_addToRearA_testReusedHead", list.nodePoolHead() == nextPooled && pooled.getElement() == ELEMENT_A);
+			printTest("pool4_addToRearA_testPoolSize", countPooledNodes(list) == 3);
+			printTest("pool4_addToRearA_testContents", testContents(list, ELEMENT_A));
+
+			//churn: the pool never passes its capacity and the list stays right
+			boolean churnOk = true;
+			for (int i = 0; i < 1000 && churnOk; i++) {
+				list.addToRear(i);
+				list.addToRear(i + 1);
+				churnOk = list.removeFirst() != null && countPooledNodes(list) <= 4 && poolHoldsNoElements(list);
+			}
+			printTest("pool4_churn_testPoolBounded", churnOk);
+			printTest("pool4_churn_testSize", list.size() == 1001);
+			printTest("pool4_churn_testLast", list.last().equals(1000));
+
+			//a node recycled under an open iterator still makes it fail fast
+			IUDoubleLinkedList<Integer> churned = new IUDoubleLinkedList<Integer>(4);
+			churned.addToRear(ELEMENT_A);
+			churned.addToRear(ELEMENT_B);
+			Iterator<Integer> it = churned.iterator();
+			it.next();
+			churned.removeFirst();
+			churned.addToRear(ELEMENT_C);
+			printTest("pool4_AB_removeFirst_addToRearC_testIterNextConcurrent", testAction(() -> it.next(), Result.ConcurrentModification));
+			printTest("pool4_AB_removeFirst_addToRearC_testContents", testContents(churned, ELEMENT_B, ELEMENT_C));
+
+			IUDoubleLinkedList<Integer> unpooled = new IUDoubleLinkedList<Integer>(0);
+			unpooled.addToRear(ELEMENT_A);
+			unpooled.removeFirst();
+			printTest("pool0_addRemoveA_testPoolEmpty", unpooled.nodePoolHead() == null);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_NodePool");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** Counts the nodes in a list's pool
+	 * @param list the list to inspect
+	 * @return number of pooled nodes
+	 */
+	private int countPooledNodes(IUDoubleLinkedList<Integer> list) {
+		int count = 0;
+		for (Node<Integer> node = list.nodePoolHead(); node != null; node = node.getNext()) {
+			count++;
+		}
+		return count;
+	}
+
+	/** Checks that no pooled node still refers to an element or a neighbour in the list
+	 * @param list the list to inspect
+	 * @return test success
+	 */
+	private boolean poolHoldsNoElements(IUDoubleLinkedList<Integer> list) {
+		for (Node<Integer> node = list.nodePoolHead(); node != null; node = node.getNext()) {
+			if (node.getElement() != null || node.getPrevious() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** run tests with the hash index enabled, including elements stored more than once */
+	private void test_HashIndex() {
+		System.out.println("\nHash Index Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_A, ELEMENT_C, ELEMENT_A);
+			list.enableHashIndex();
+			printTest("ABACA_hashIndex_testIndexOfA", testIndexOf(list, ELEMENT_A, 0));
+			printTest("ABACA_hashIndex_testIndexOfC", testIndexOf(list, ELEMENT_C, 3));
+			printTest("ABACA_hashIndex_testIndexOfX", testIndexOf(list, ELEMENT_X, -1));
+			printTest("ABACA_hashIndex_testContainsX", testContains(list, ELEMENT_X, Result.False));
+			list.remove(ELEMENT_A);
+			printTest("ABACA_hashIndexRemoveA_testContents", testContents(list, ELEMENT_B, ELEMENT_A, ELEMENT_C, ELEMENT_A));
+			list.removeLast();
+			list.addAfter(ELEMENT_D, ELEMENT_A);
+			printTest("BACA_hashIndexRemoveLastAddAfterDA_testContents", testContents(list, ELEMENT_B, ELEMENT_A, ELEMENT_D, ELEMENT_C));
+			list.set(1, ELEMENT_B);
+			printTest("BADC_hashIndexSet1B_testContainsA", testContains(list, ELEMENT_A, Result.False));
+			printTest("BBDC_hashIndex_testRemoveB", testRemoveElement(list, ELEMENT_B, Result.MatchingValue));
+			printTest("BDC_hashIndex_testIndexOfB", testIndexOf(list, ELEMENT_B, 0));
+			printTest("BDC_hashIndex_testRemoveB", testRemoveElement(list, ELEMENT_B, Result.MatchingValue));
+			printTest("DC_hashIndex_testContainsB", testContains(list, ELEMENT_B, Result.False));
+
+			//many copies of one element come out from both ends
+			IUDoubleLinkedList<Integer> copies = new IUDoubleLinkedList<Integer>();
+			copies.enableHashIndex();
+			for (int i = 0; i < 1000; i++) {
+				copies.addToRear(ELEMENT_A);
+			}
+			copies.addToRear(ELEMENT_B);
+			for (int i = 0; i < 500; i++) {
+				copies.removeFirst();
+			}
+			printTest("1000A_hashIndexRemove500_testIndexOfB", testIndexOf(copies, ELEMENT_B, 500));
+			copies.removeLast();
+			while (copies.size() > 1) {
+				copies.removeLast();
+			}
+			printTest("1A_hashIndex_testRemoveA", testRemoveElement(copies, ELEMENT_A, Result.MatchingValue));
+			printTest("emptyList_hashIndex_testContainsA", testContains(copies, ELEMENT_A, Result.False));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_HashIndex");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run spliterator() and stream() tests */
+	private void test_Spliterator() {
+		System.out.println("\nSpliterator Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = descendingList(10);
+			printTest("descending10_testStreamSum", list.stream().mapToInt(Integer::intValue).sum() == 45);
+			printTest("descending10_testParallelStreamCount", list.parallelStream().count() == 10);
+			Spliterator<Integer> second = list.spliterator();
+			Spliterator<Integer> first = second.trySplit();
+			printTest("descending10_testSplitSizes", first.estimateSize() == 5 && second.estimateSize() == 5);
+			int[] seen = {0};
+			first.tryAdvance(element -> seen[0] = element);
+			printTest("descending10_testSplitFirstHalf", seen[0] == 9);
+			second.tryAdvance(element -> seen[0] = element);
+			printTest("descending10_testSplitSecondHalf", seen[0] == 4);
+			printTest("emptyList_testSpliteratorTryAdvance", !new IUDoubleLinkedList<Integer>().spliterator().tryAdvance(element -> {}));
+
+			IUDoubleLinkedList<Integer> shrinking = descendingList(5);
+			printTest("removeLastInAction_testForEachRemaining",
+					testAction(() -> shrinking.spliterator().forEachRemaining(element -> shrinking.removeLast()), Result.ConcurrentModification));
+			IUDoubleLinkedList<Integer> changed = descendingList(5);
+			Spliterator<Integer> spliterator = changed.spliterator();
+			changed.removeFirst();
+			printTest("removeFirst_testTryAdvanceConcurrent", testAction(() -> spliterator.tryAdvance(element -> {}), Result.ConcurrentModification));
+			IUDoubleLinkedList<Integer> cleared = new IUDoubleLinkedList<Integer>(8);
+			cleared.addAll(List.of(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D));
+			Spliterator<Integer> walked = cleared.spliterator();
+			Spliterator<Integer> split = cleared.spliterator();
+			cleared.clear();
+			List<Integer> received = new ArrayList<Integer>();
+			printTest("pooledABCD_clear_testForEachRemainingConcurrent", testAction(() -> walked.forEachRemaining(received::add), Result.ConcurrentModification));
+			printTest("pooledABCD_clear_testForEachRemainingNoAction", received.isEmpty());
+			printTest("pooledABCD_clear_testTrySplitConcurrent", testAction(() -> split.trySplit(), Result.ConcurrentModification));
+			printTest("descending10_testForEachRemainingNull", testAction(() -> list.spliterator().forEachRemaining(null), Result.NullPointer));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Spliterator");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run sort() tests, including comparators that throw or modify the list */
+	private void test_Sort() {
+		System.out.println("\nSort Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_C, ELEMENT_A, ELEMENT_B);
+			list.sort(null);
+			printTest("CAB_sort_testContentsABC", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			list = dllOf(12, 21, 11, 22);
+			list.sort((a, b) -> Integer.compare(a % 10, b % 10));
+			printTest("sortByLastDigit_testStable", testContents(list, 21, 11, 12, 22));
+			list = descendingList(1000);
+			list.sort(null);
+			printTest("descending1000_sort_testAscending", testAscending(list, 1000));
+
+			//a comparator that throws leaves every element, consistently linked
+			IUDoubleLinkedList<Integer> throwing = descendingList(50);
+			throwing.get(2);
+			Iterator<Integer> it = throwing.iterator();
+			int[] calls = {0};
+			printTest("throwingComparator_testSort", testAction(() -> throwing.sort((a, b) -> {
+				if (++calls[0] == 40) {
+					throw new IllegalArgumentException();
+				}
+				return Integer.compare(a, b);
+			}), Result.IllegalArgument));
+			printTest("throwingComparator_testConsistent", testConsistent(throwing));
+			printTest("throwingComparator_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+			throwing.sort(null);
+			printTest("throwingComparator_testResort", testAscending(throwing, 50));
+
+			//a comparator that modifies the list fails fast and leaves it consistent
+			IUDoubleLinkedList<Integer> mutating = descendingList(50);
+			it = mutating.iterator();
+			calls[0] = 0;
+			printTest("mutatingComparator_testSort", testAction(() -> mutating.sort((a, b) -> {
+				if (++calls[0] == 40) {
+					mutating.removeFirst();
+				}
+				return Integer.compare(a, b);
+			}), Result.ConcurrentModification));
+			printTest("mutatingComparator_testConsistent", testConsistent(mutating));
+			printTest("mutatingComparator_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Sort");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+
+	/** run parallelSort() tests in a pool of 4 workers, so the list really is cut into segments */
+	private void test_ParallelSort() {
+		System.out.println("\nParallel Sort Tests\n");
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			int size = 100_000;
+			IUDoubleLinkedList<Integer> list = descendingList(size);
+			pool.invoke(ForkJoinTask.adapt(() -> list.parallelSort(null)));
+			printTest("descending100000_parallelSort_testAscending", testAscending(list, size));
+
+			//an Error from the comparator must not drop any segment
+			IUDoubleLinkedList<Integer> failing = descendingList(size);
+			Iterator<Integer> it = failing.iterator();
+			AtomicInteger calls = new AtomicInteger();
+			boolean thrown = false;
+			try {
+				pool.invoke(ForkJoinTask.adapt(() -> failing.parallelSort((a, b) -> {
+					if (calls.incrementAndGet() == 200_000) {
+						throw new AssertionError();
+					}
+					return Integer.compare(a, b);
+				})));
+			} catch (AssertionError e) {
+				thrown = true;
+			}
+			printTest("errorComparator_testParallelSortThrows", thrown);
+			printTest("errorComparator_testConsistent", testConsistent(failing));
+			printTest("errorComparator_testSize", testSize(failing, size));
+			printTest("errorComparator_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+			failing.sort(null);
+			printTest("errorComparator_testResort", testAscending(failing, size));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ParallelSort");
+			e.printStackTrace();
+		} finally {
+			pool.shutdown();
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run handle tests: insert and move around handles, and handles that are no longer valid */
+	private void test_Handles() {
+		System.out.println("\nHandle Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+			IUDoubleLinkedList.Handle<Integer> b = list.addToRearHandle(ELEMENT_B);
+			IUDoubleLinkedList.Handle<Integer> a = list.addToFrontHandle(ELEMENT_A);
+			IUDoubleLinkedList.Handle<Integer> c = list.insertAfter(b, ELEMENT_C);
+			printTest("handles_testContentsABC", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("ABC_handleB_testGetElement", b.getElement().equals(ELEMENT_B));
+			list.insertBefore(a, ELEMENT_D);
+			printTest("ABC_insertBeforeAD_testContents", testContents(list, ELEMENT_D, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			list.moveToFront(c);
+			printTest("DABC_moveToFrontC_testContents", testContents(list, ELEMENT_C, ELEMENT_D, ELEMENT_A, ELEMENT_B));
+			list.moveToBack(c);
+			printTest("CDAB_moveToBackC_testContents", testContents(list, ELEMENT_D, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("DABC_removeHandleA_testElement", list.removeHandle(a).equals(ELEMENT_A));
+			printTest("DBC_removeHandleA_testContents", testContents(list, ELEMENT_D, ELEMENT_B, ELEMENT_C));
+
+			//a removed handle stays invalid, even after its node's neighbours change
+			printTest("DBC_handleA_testIsValid", !a.isValid());
+			printTest("DBC_handleA_testGetElement", testAction(() -> a.getElement(), Result.IllegalState));
+			printTest("DBC_handleA_testRemoveHandle", testAction(() -> list.removeHandle(a), Result.IllegalState));
+			printTest("DBC_handleA_testInsertAfter", testAction(() -> list.insertAfter(a, ELEMENT_X), Result.IllegalState));
+			printTest("DBC_handleA_testMoveToFront", testAction(() -> list.moveToFront(a), Result.IllegalState));
+			list.remove(ELEMENT_B);
+			printTest("DBC_removeB_testHandleBIsValid", !b.isValid());
+			printTest("DC_handleC_testIsValid", c.isValid());
+
+			//handles from another list are rejected
+			IUDoubleLinkedList<Integer> other = dllOf(ELEMENT_A);
+			IUDoubleLinkedList.Handle<Integer> foreign = other.addToRearHandle(ELEMENT_B);
+			printTest("DC_foreignHandle_testRemoveHandle", testAction(() -> list.removeHandle(foreign), Result.IllegalArgument));
+			printTest("DC_foreignHandle_testInsertBefore", testAction(() -> list.insertBefore(foreign, ELEMENT_X), Result.IllegalArgument));
+			printTest("DC_foreignHandle_testMoveToBack", testAction(() -> list.moveToBack(foreign), Result.IllegalArgument));
+			printTest("DC_foreignHandle_testContents", testContents(list, ELEMENT_D, ELEMENT_C));
+			printTest("AB_foreignHandle_testContents", testContents(other, ELEMENT_A, ELEMENT_B));
+
+			//handles of a list that gave its nodes away become invalid
+			list.transferAll(other);
+			printTest("DCAB_transferAll_testForeignIsValid", !foreign.isValid());
+			printTest("DCAB_transferAll_testRemoveHandle", testAction(() -> other.removeHandle(foreign), Result.IllegalState));
+			printTest("DCAB_transferAll_testHandleCIsValid", c.isValid() && list.removeHandle(c).equals(ELEMENT_C));
+			printTest("DAB_removeHandleC_testContents", testContents(list, ELEMENT_D, ELEMENT_A, ELEMENT_B));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Handles");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run addAll() tests, including adding a list to itself */
+	private void test_AddAll() {
+		System.out.println("\nAddAll Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A);
+			list.addAll(List.of(ELEMENT_B, ELEMENT_C));
+			printTest("A_addAllBC_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			list.addAll(0, List.of(ELEMENT_D));
+			printTest("ABC_addAll0D_testContents", testContents(list, ELEMENT_D, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			list.addAll(2, List.of(ELEMENT_X, ELEMENT_Z));
+			printTest("DABC_addAll2XZ_testContents", testContents(list, ELEMENT_D, ELEMENT_A, ELEMENT_X, ELEMENT_Z, ELEMENT_B, ELEMENT_C));
+			printTest("DAXZBC_testAddAllNeg1", testAction(() -> list.addAll(-1, List.of(ELEMENT_A)), Result.IndexOutOfBounds));
+			printTest("DAXZBC_testAddAll7", testAction(() -> list.addAll(7, List.of(ELEMENT_A)), Result.IndexOutOfBounds));
+			printTest("DAXZBC_testAddAllNull", testAction(() -> list.addAll(null), Result.NullPointer));
+			printTest("DAXZBC_testAddAllFailed_testSize", testSize(list, 6));
+
+			//one structural modification for the whole batch, none for an empty one
+			Iterator<Integer> it = list.iterator();
+			list.addAll(List.of());
+			printTest("DAXZBC_addAllEmpty_testIterNext", testIterNext(it, ELEMENT_D, Result.MatchingValue));
+			list.addAll(List.of(ELEMENT_A, ELEMENT_B));
+			printTest("DAXZBCAB_addAllAB_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+
+			//a source that throws partway leaves the list and its node pool as they were
+			IUDoubleLinkedList<Integer> pooled = new IUDoubleLinkedList<Integer>(4);
+			pooled.addAll(List.of(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_X));
+			for (int i = 0; i < 4; i++) {
+				pooled.removeLast();
+			}
+			Iterable<Integer> failing = () -> List.of(ELEMENT_B, ELEMENT_C, ELEMENT_D).stream().map(element -> {
+				if (element == ELEMENT_D) {
+					throw new IllegalStateException();
+				}
+				return element;
+			}).iterator();
+			Iterator<Integer> pooledIt = pooled.iterator();
+			printTest("pooledA_addAllFailing_testThrows", testAction(() -> pooled.addAll(failing), Result.IllegalState));
+			printTest("pooledA_addAllFailing_testContents", testContents(pooled, ELEMENT_A));
+			printTest("pooledA_addAllFailing_testPoolSize", countPooledNodes(pooled) == 4 && poolHoldsNoElements(pooled));
+			printTest("pooledA_addAllFailing_testIterNext", testIterNext(pooledIt, ELEMENT_A, Result.MatchingValue));
+
+			IUDoubleLinkedList<Integer> self = dllOf(ELEMENT_A, ELEMENT_B);
+			self.addAll(1, self);
+			printTest("AB_addAll1Self_testContents", testContents(self, ELEMENT_A, ELEMENT_A, ELEMENT_B, ELEMENT_B));
+			printTest("collectionConstructor_testContents",
+					testContents(new IUDoubleLinkedList<Integer>(List.of(ELEMENT_C, ELEMENT_B, ELEMENT_A)), ELEMENT_C, ELEMENT_B, ELEMENT_A));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_AddAll");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run splice() and transferAll() tests, including splicing a list into itself */
+	private void test_Splice() {
+		System.out.println("\nSplice Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_D);
+			IUDoubleLinkedList<Integer> other = dllOf(ELEMENT_B, ELEMENT_C);
+			Iterator<Integer> listIt = list.iterator();
+			Iterator<Integer> otherIt = other.iterator();
+			list.splice(1, other);
+			printTest("AD_splice1BC_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D));
+			printTest("AD_splice1BC_testOtherEmpty", testContents(other));
+			printTest("AD_splice1BC_testIterNextConcurrent", testIterNext(listIt, null, Result.ConcurrentModification));
+			printTest("BC_splice1_testOtherIterNextConcurrent", testIterNext(otherIt, null, Result.ConcurrentModification));
+			printTest("ABCD_splice4Empty_testSize", testAction(() -> list.splice(4, other), Result.NoException) && list.size() == 4);
+			list.splice(0, dllOf(ELEMENT_X));
+			printTest("ABCD_splice0X_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D));
+			list.transferAll(dllOf(ELEMENT_Z));
+			printTest("XABCD_transferAllZ_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_Z));
+
+			//the emptied list is still usable
+			other.addToRear(ELEMENT_A);
+			printTest("emptied_addToRearA_testContents", testContents(other, ELEMENT_A));
+
+			//error paths leave both lists unchanged
+			printTest("XABCDZ_testSpliceSelf", testAction(() -> list.splice(0, list), Result.IllegalArgument));
+			printTest("XABCDZ_testTransferAllSelf", testAction(() -> list.transferAll(list), Result.IllegalArgument));
+			printTest("XABCDZ_testSpliceNeg1", testAction(() -> list.splice(-1, other), Result.IndexOutOfBounds));
+			printTest("XABCDZ_testSplice7", testAction(() -> list.splice(7, other), Result.IndexOutOfBounds));
+			printTest("XABCDZ_testSpliceNull", testAction(() -> list.splice(0, null), Result.NullPointer));
+			printTest("XABCDZ_failedSplices_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_Z));
+			printTest("A_failedSplices_testContents", testContents(other, ELEMENT_A));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Splice");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run removeRange() and subList() tests, including views that go stale */
+	private void test_SubList() {
+		System.out.println("\nSubList Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_X);
+			list.removeRange(1, 3);
+			printTest("ABCDX_removeRange13_testContents", testContents(list, ELEMENT_A, ELEMENT_D, ELEMENT_X));
+			list.removeRange(2, 2);
+			printTest("ADX_removeRange22_testContents", testContents(list, ELEMENT_A, ELEMENT_D, ELEMENT_X));
+			printTest("ADX_testRemoveRangeNeg1", testAction(() -> list.removeRange(-1, 1), Result.IndexOutOfBounds));
+			printTest("ADX_testRemoveRange04", testAction(() -> list.removeRange(0, 4), Result.IndexOutOfBounds));
+			printTest("ADX_testRemoveRange21", testAction(() -> list.removeRange(2, 1), Result.IndexOutOfBounds));
+			list.removeRange(0, 3);
+			printTest("ADX_removeRange03_testContents", testContents(list));
+			list.addToRear(ELEMENT_B);
+			printTest("emptied_addToRearB_testContents", testContents(list, ELEMENT_B));
+
+			//changes through the view show up in the list
+			IUDoubleLinkedList<Integer> outer = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D);
+			IndexedUnsortedList<Integer> view = outer.subList(1, 3);
+			printTest("ABCD_subList13_testContents", testContents(view, ELEMENT_B, ELEMENT_C));
+			printTest("ABCD_subList13_testIndexOfC", testIndexOf(view, ELEMENT_C, 1));
+			printTest("ABCD_subList13_testContainsA", testContains(view, ELEMENT_A, Result.False));
+			printTest("ABCD_subList13_testGet2", testGet(view, 2, null, Result.IndexOutOfBounds));
+			view.addToRear(ELEMENT_X);
+			printTest("BC_addToRearX_testContents", testContents(view, ELEMENT_B, ELEMENT_C, ELEMENT_X));
+			printTest("ABCD_viewAddToRearX_testContents", testContents(outer, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_X, ELEMENT_D));
+			view.set(0, ELEMENT_Z);
+			view.removeLast();
+			printTest("ABCXD_viewSet0ZRemoveLast_testContents", testContents(outer, ELEMENT_A, ELEMENT_Z, ELEMENT_C, ELEMENT_D));
+			Iterator<Integer> viewIt = view.iterator();
+			viewIt.next();
+			viewIt.remove();
+			printTest("ZC_iterRemoveZ_testContents", testContents(view, ELEMENT_C));
+			view.clear();
+			printTest("C_clear_testIsEmpty", testIsEmpty(view, Result.True));
+			printTest("AZCD_viewClear_testContents", testContents(outer, ELEMENT_A, ELEMENT_D));
+
+			//the view fails fast once the list changes other than through it
+			IndexedUnsortedList<Integer> stale = outer.subList(0, 2);
+			outer.addToFront(ELEMENT_B);
+			printTest("AD_subList02AddToFrontB_testSize", testAction(() -> stale.size(), Result.ConcurrentModification));
+			printTest("AD_subList02AddToFrontB_testGet", testAction(() -> stale.get(0), Result.ConcurrentModification));
+			printTest("BAD_testSubListNeg1", testAction(() -> outer.subList(-1, 1), Result.IndexOutOfBounds));
+			printTest("BAD_testSubList04", testAction(() -> outer.subList(0, 4), Result.IndexOutOfBounds));
+			printTest("BAD_testSubList21", testAction(() -> outer.subList(2, 1), Result.IndexOutOfBounds));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_SubList");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run forEach() and iterator forEachRemaining() tests */
+	private void test_ForEach() {
+		System.out.println("\nForEach Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			List<Integer> seen = new ArrayList<Integer>();
+			list.forEach(seen::add);
+			printTest("ABC_forEach_testOrder", seen.equals(List.of(ELEMENT_A, ELEMENT_B, ELEMENT_C)));
+			seen.clear();
+			new IUDoubleLinkedList<Integer>().forEach(seen::add);
+			printTest("emptyList_forEach_testNoCalls", seen.isEmpty());
+			printTest("ABC_testForEachNull", testAction(() -> list.forEach(null), Result.NullPointer));
+			printTest("ABC_forEachAddToRear_testConcurrent", testAction(() -> list.forEach(element -> list.addToRear(ELEMENT_X)), Result.ConcurrentModification));
+			printTest("ABCXXX_forEachAddToRear_testSize", testSize(list, 6));
+			list.removeRange(3, 6);
+
+			//forEachRemaining picks up after next() and leaves the iterator at the end
+			ListIterator<Integer> it = list.listIterator();
+			it.next();
+			seen.clear();
+			it.forEachRemaining(seen::add);
+			printTest("ABC_iterNextForEachRemaining_testOrder", seen.equals(List.of(ELEMENT_B, ELEMENT_C)));
+			printTest("ABC_iterForEachRemaining_testHasNext", testIterHasNext(it, Result.False));
+			printTest("ABC_iterForEachRemaining_testNextIndex", testListIterNextIndex(it, 3, Result.MatchingValue));
+			printTest("ABC_iterForEachRemaining_testPrevious", testListIterPrevious(it, ELEMENT_C, Result.MatchingValue));
+			it.next();
+			it.remove();
+			printTest("ABC_iterForEachRemainingRemove_testContents", testContents(list, ELEMENT_A, ELEMENT_B));
+			Iterator<Integer> removing = list.iterator();
+			removing.forEachRemaining(element -> {});
+			removing.remove();
+			printTest("AB_iterForEachRemainingRemove_testContents", testContents(list, ELEMENT_A));
+			printTest("A_testIterForEachRemainingNull", testAction(() -> list.iterator().forEachRemaining(null), Result.NullPointer));
+			Iterator<Integer> stale = list.iterator();
+			list.addToRear(ELEMENT_B);
+			printTest("A_iterAddToRearB_testForEachRemaining", testAction(() -> stale.forEachRemaining(element -> {}), Result.ConcurrentModification));
+			printTest("AB_iterForEachRemainingRemoveFirst_testConcurrent",
+					testAction(() -> list.iterator().forEachRemaining(element -> list.removeFirst()), Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ForEach");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run removeIf(), removeAll() and retainAll() tests */
+	private void test_RemoveIf() {
+		System.out.println("\nRemoveIf Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D, ELEMENT_A);
+			Iterator<Integer> it = list.iterator();
+			printTest("ABCDA_removeIfNone_testResult", !list.removeIf(element -> element < 0));
+			printTest("ABCDA_removeIfNone_testIterNext", testIterNext(it, ELEMENT_A, Result.MatchingValue));
+			printTest("ABCDA_removeIfOdd_testResult", list.removeIf(element -> element % 2 == 1));
+			printTest("ABCDA_removeIfOdd_testContents", testContents(list, ELEMENT_B, ELEMENT_D));
+			printTest("BD_removeIfOdd_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+			list.addToRear(ELEMENT_A);
+			printTest("BDA_removeIfAll_testResult", list.removeIf(element -> true));
+			printTest("BDA_removeIfAll_testContents", testContents(list));
+			list.addToRear(ELEMENT_C);
+			printTest("emptied_addToRearC_testContents", testContents(list, ELEMENT_C));
+
+			IUDoubleLinkedList<Integer> removing = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_B);
+			printTest("ABCB_removeAllBX_testResult", removing.removeAll(List.of(ELEMENT_B, ELEMENT_X)));
+			printTest("ABCB_removeAllBX_testContents", testContents(removing, ELEMENT_A, ELEMENT_C));
+			printTest("AC_removeAllX_testResult", !removing.removeAll(List.of(ELEMENT_X)));
+			IUDoubleLinkedList<Integer> retaining = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_B);
+			printTest("ABCB_retainAllBX_testResult", retaining.retainAll(List.of(ELEMENT_B, ELEMENT_X)));
+			printTest("ABCB_retainAllBX_testContents", testContents(retaining, ELEMENT_B, ELEMENT_B));
+			printTest("BB_retainAllB_testResult", !retaining.retainAll(List.of(ELEMENT_B)));
+
+			//the hash index drops removed elements
+			IUDoubleLinkedList<Integer> indexed = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_A, ELEMENT_C);
+			indexed.enableHashIndex();
+			indexed.removeIf(element -> element.equals(ELEMENT_A));
+			printTest("ABAC_hashIndexRemoveIfA_testContainsA", testContains(indexed, ELEMENT_A, Result.False));
+			printTest("BC_hashIndex_testIndexOfC", testIndexOf(indexed, ELEMENT_C, 1));
+
+			//error paths
+			IUDoubleLinkedList<Integer> abc = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_testRemoveIfNull", testAction(() -> abc.removeIf(null), Result.NullPointer));
+			printTest("ABC_testRemoveAllNull", testAction(() -> abc.removeAll(null), Result.NullPointer));
+			printTest("ABC_testRetainAllNull", testAction(() -> abc.retainAll(null), Result.NullPointer));
+			printTest("ABC_failedNulls_testContents", testContents(abc, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("ABC_removeIfAddToFront_testConcurrent", testAction(() -> abc.removeIf(element -> {
+				abc.addToFront(ELEMENT_X);
+				return true;
+			}), Result.ConcurrentModification));
+			printTest("ABC_removeIfAddToFront_testConsistent", testConsistent(abc));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_RemoveIf");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run replaceAll(), setRange() and fill() tests */
+	private void test_SetRange() {
+		System.out.println("\nSetRange Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D);
+			Iterator<Integer> it = list.iterator();
+			list.replaceAll(element -> element * 10);
+			printTest("ABCD_replaceAllTimes10_testContents", testContents(list, 10, 20, 30, 40));
+			list.setRange(1, 3, element -> element + 1);
+			printTest("ABCD_setRange13Plus1_testContents", testContents(list, 10, 21, 31, 40));
+			list.fill(2, 4, ELEMENT_X);
+			printTest("ABCD_fill24X_testContents", testContents(list, 10, 21, ELEMENT_X, ELEMENT_X));
+			list.setRange(2, 2, element -> ELEMENT_Z);
+			printTest("ABCD_setRange22_testContents", testContents(list, 10, 21, ELEMENT_X, ELEMENT_X));
+			printTest("ABCD_rewritten_testIterNext", testIterNext(it, 10, Result.MatchingValue));
+			new IUDoubleLinkedList<Integer>().replaceAll(element -> ELEMENT_X);
+
+			//the hash index follows rewritten elements
+			IUDoubleLinkedList<Integer> indexed = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_A);
+			indexed.enableHashIndex();
+			indexed.fill(0, 2, ELEMENT_C);
+			printTest("ABA_hashIndexFill02C_testIndexOfA", testIndexOf(indexed, ELEMENT_A, 2));
+			printTest("CCA_hashIndex_testIndexOfC", testIndexOf(indexed, ELEMENT_C, 0));
+			printTest("CCA_hashIndex_testContainsB", testContains(indexed, ELEMENT_B, Result.False));
+
+			//error paths
+			IUDoubleLinkedList<Integer> abc = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("ABC_testSetRangeNeg1", testAction(() -> abc.setRange(-1, 2, element -> ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("ABC_testSetRange04", testAction(() -> abc.setRange(0, 4, element -> ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("ABC_testFill21", testAction(() -> abc.fill(2, 1, ELEMENT_X), Result.IndexOutOfBounds));
+			printTest("ABC_testSetRangeNull", testAction(() -> abc.setRange(0, 3, null), Result.NullPointer));
+			printTest("ABC_testReplaceAllNull", testAction(() -> abc.replaceAll(null), Result.NullPointer));
+			printTest("ABC_failedSetRanges_testContents", testContents(abc, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("ABC_replaceAllRemoveLast_testConcurrent", testAction(() -> abc.replaceAll(element -> {
+				abc.removeLast();
+				return element;
+			}), Result.ConcurrentModification));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_SetRange");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run fromArray(), toArray() and toArray(A[]) tests */
+	private void test_ToArray() {
+		System.out.println("\nToArray Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = IUDoubleLinkedList.fromArray(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("fromArrayABC_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("fromArrayEmpty_testContents", testContents(IUDoubleLinkedList.<Integer>fromArray()));
+			Integer[] source = {ELEMENT_C, ELEMENT_D};
+			IUDoubleLinkedList<Integer> copy = IUDoubleLinkedList.fromArray(source);
+			source[0] = ELEMENT_X;
+			printTest("fromArrayCD_changeSource_testContents", testContents(copy, ELEMENT_C, ELEMENT_D));
+			printTest("testFromArrayNull", testAction(() -> IUDoubleLinkedList.fromArray((Integer[]) null), Result.NullPointer));
+			IUDoubleLinkedList<Integer> linked = IUDoubleLinkedList.fromArray(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			printTest("fromArrayABC_testRemoveLast", linked.removeLast().equals(ELEMENT_C));
+			printTest("fromArrayABC_removeLast_testDescendingNext", linked.descendingIterator().next().equals(ELEMENT_B));
+			linked.addToFront(ELEMENT_X);
+			linked.addToRear(ELEMENT_D);
+			printTest("fromArrayABC_removeLast_addToFrontX_addToRearD_testContents", testContents(linked, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_D));
+
+			printTest("ABC_toArray_testContents", Arrays.equals(list.toArray(), new Object[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			printTest("emptyList_toArray_testLength", new IUDoubleLinkedList<Integer>().toArray().length == 0);
+			Integer[] small = new Integer[1];
+			Integer[] grown = list.toArray(small);
+			printTest("ABC_toArraySmall_testNewArray", grown != small && Arrays.equals(grown, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C}));
+			Integer[] exact = new Integer[3];
+			printTest("ABC_toArrayExact_testSameArray", list.toArray(exact) == exact && Arrays.equals(exact, grown));
+			Integer[] large = {ELEMENT_X, ELEMENT_X, ELEMENT_X, ELEMENT_X, ELEMENT_X};
+			list.toArray(large);
+			printTest("ABC_toArrayLarge_testNullAfterLast",
+					Arrays.equals(large, new Integer[] {ELEMENT_A, ELEMENT_B, ELEMENT_C, null, ELEMENT_X}));
+			printTest("ABC_toArrayObject_testType", list.toArray(new Object[0]).getClass() == Object[].class);
+
+			//error paths
+			printTest("ABC_testToArrayNull", testAction(() -> list.toArray((Integer[]) null), Result.NullPointer));
+			boolean storeFailed = false;
+			try {
+				list.toArray(new String[3]);
+			} catch (ArrayStoreException e) {
+				storeFailed = true;
+			}
+			printTest("ABC_testToArrayWrongType", storeFailed);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_ToArray");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run reverse(), reversed() and descendingIterator() tests */
+	private void test_Reverse() {
+		System.out.println("\nReverse Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> list = dllOf(ELEMENT_A, ELEMENT_B, ELEMENT_C);
+			Iterator<Integer> it = list.iterator();
+			list.reverse();
+			printTest("ABC_reverse_testContents", testContents(list, ELEMENT_C, ELEMENT_B, ELEMENT_A));
+			printTest("ABC_reverse_testFirstLast", list.first().equals(ELEMENT_C) && list.last().equals(ELEMENT_A));
+			printTest("ABC_reverse_testIterNextConcurrent", testIterNext(it, null, Result.ConcurrentModification));
+			list.reverse();
+			printTest("CBA_reverse_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			IUDoubleLinkedList<Integer> empty = new IUDoubleLinkedList<Integer>();
+			empty.reverse();
+			printTest("emptyList_reverse_testContents", testContents(empty));
+
+			//the view and the list see each other's changes
+			IndexedUnsortedList<Integer> view = list.reversed();
+			printTest("ABC_reversed_testContents", testContents(view, ELEMENT_C, ELEMENT_B, ELEMENT_A));
+			printTest("ABC_reversed_testIndexOfC", testIndexOf(view, ELEMENT_C, 0));
+			printTest("ABC_reversed_testGet3", testGet(view, 3, null, Result.IndexOutOfBounds));
+			view.addToFront(ELEMENT_D);
+			printTest("ABC_reversedAddToFrontD_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_D));
+			list.addToFront(ELEMENT_X);
+			printTest("XABCD_reversed_testContents", testContents(view, ELEMENT_D, ELEMENT_C, ELEMENT_B, ELEMENT_A, ELEMENT_X));
+			view.add(1, ELEMENT_Z);
+			printTest("XABCD_reversedAdd1Z_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_C, ELEMENT_Z, ELEMENT_D));
+			printTest("XABCZD_reversed_testRemoveFirst", testRemoveFirst(view, ELEMENT_D, Result.MatchingValue));
+			printTest("XABCZ_reversed_testRemove1", testRemoveIndex(view, 1, ELEMENT_C, Result.MatchingValue));
+			printTest("XABZ_reversedRemoves_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B, ELEMENT_Z));
+			ListIterator<Integer> viewIt = view.listIterator(1);
+			printTest("XABZ_reversedListIter1_testNext", testIterNext(viewIt, ELEMENT_B, Result.MatchingValue));
+			printTest("XABZ_reversedListIter1_testPrevious", testListIterPrevious(viewIt, ELEMENT_B, Result.MatchingValue));
+			printTest("XABZ_reversed_testListIter5", testListIter(view, 5, Result.IndexOutOfBounds));
+
+			//descending iteration, with remove() reaching the list
+			List<Integer> seen = new ArrayList<Integer>();
+			Iterator<Integer> descending = list.descendingIterator();
+			while (descending.hasNext()) {
+				seen.add(descending.next());
+			}
+			printTest("XABZ_descendingIterator_testOrder", seen.equals(List.of(ELEMENT_Z, ELEMENT_B, ELEMENT_A, ELEMENT_X)));
+			printTest("XABZ_descendingIteratorEnd_testNext", testIterNext(descending, null, Result.NoSuchElement));
+			Iterator<Integer> removing = list.descendingIterator();
+			printTest("XABZ_descendingIterator_testRemoveBeforeNext", testIterRemove(removing, Result.IllegalState));
+			removing.next();
+			removing.remove();
+			printTest("XABZ_descendingIteratorRemoveZ_testContents", testContents(list, ELEMENT_X, ELEMENT_A, ELEMENT_B));
+			printTest("XAB_descendingIterator_testNext", testIterNext(removing, ELEMENT_B, Result.MatchingValue));
+			printTest("XAB_descendingIterator_testRemoveTwice", testAction(() -> {
+				removing.remove();
+				removing.remove();
+			}, Result.IllegalState));
+			list.addToRear(ELEMENT_C);
+			printTest("XAC_descendingIteratorAddToRear_testNext", testIterNext(removing, null, Result.ConcurrentModification));
+			printTest("emptyList_descendingIterator_testHasNext", testIterHasNext(empty.descendingIterator(), Result.False));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Reverse");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run the null-returning end operations, push()/pop() and asDeque() tests */
+	private void test_Deque() {
+		System.out.println("\nDeque Tests\n");
+		try {
+			IUDoubleLinkedList<Integer> empty = new IUDoubleLinkedList<Integer>();
+			printTest("emptyList_testPollFirst", empty.pollFirst() == null);
+			printTest("emptyList_testPollLast", empty.pollLast() == null);
+			printTest("emptyList_testPeekFirst", empty.peekFirst() == null);
+			printTest("emptyList_testPeekLast", empty.peekLast() == null);
+			printTest("emptyList_testPop", testAction(() -> empty.pop(), Result.NoSuchElement));
+
+			IUDoubleLinkedList<Integer> list = new IUDoubleLinkedList<Integer>();
+			printTest("emptyList_testOfferFirstB", list.offerFirst(ELEMENT_B));
+			printTest("B_testOfferLastC", list.offerLast(ELEMENT_C));
+			list.push(ELEMENT_A);
+			printTest("BC_pushA_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("ABC_testPeekFirst", list.peekFirst().equals(ELEMENT_A));
+			printTest("ABC_testPeekLast", list.peekLast().equals(ELEMENT_C));
+			printTest("ABC_testPop", list.pop().equals(ELEMENT_A));
+			printTest("BC_testPollLast", list.pollLast().equals(ELEMENT_C));
+			printTest("B_testPollFirst", list.pollFirst().equals(ELEMENT_B));
+			printTest("B_pollFirst_testContents", testContents(list));
+
+			//null would be mistaken for empty, so it is refused
+			printTest("emptyList_testOfferFirstNull", testAction(() -> list.offerFirst(null), Result.NullPointer));
+			printTest("emptyList_testOfferLastNull", testAction(() -> list.offerLast(null), Result.NullPointer));
+			printTest("emptyList_testPushNull", testAction(() -> list.push(null), Result.NullPointer));
+			printTest("emptyList_failedNulls_testContents", testContents(list));
+
+			//the Deque view works on the list's own nodes
+			Deque<Integer> deque = list.asDeque();
+			deque.addLast(ELEMENT_B);
+			deque.push(ELEMENT_A);
+			deque.offer(ELEMENT_C);
+			printTest("dequeABC_testContents", testContents(list, ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("dequeABC_testSize", deque.size() == 3);
+			printTest("dequeABC_testContainsB", deque.contains(ELEMENT_B) && !deque.contains(null));
+			printTest("dequeABC_testGetLast", deque.getLast().equals(ELEMENT_C));
+			printTest("dequeABC_testRemoveLastOccurrenceB", deque.removeLastOccurrence(ELEMENT_B) && !deque.removeFirstOccurrence(ELEMENT_X));
+			printTest("dequeAC_testPoll", deque.poll().equals(ELEMENT_A) && testContents(list, ELEMENT_C));
+			Iterator<Integer> descending = deque.descendingIterator();
+			printTest("dequeC_descendingIterator_testNext", testIterNext(descending, ELEMENT_C, Result.MatchingValue));
+			deque.clear();
+			printTest("dequeC_clear_testIsEmpty", deque.isEmpty() && list.isEmpty());
+			printTest("emptyDeque_testPeek", deque.peek() == null);
+			printTest("emptyDeque_testElement", testAction(() -> deque.element(), Result.NoSuchElement));
+			printTest("emptyDeque_testAddNull", testAction(() -> deque.add(null), Result.NullPointer));
+			printTest("emptyDeque_testPushNull", testAction(() -> deque.push(null), Result.NullPointer));
+
+			//a full REJECT list refuses offers and throws on adds
+			IUDoubleLinkedList<Integer> bounded = new IUDoubleLinkedList<Integer>(1, IUDoubleLinkedList.EvictionPolicy.REJECT, null);
+			Deque<Integer> boundedDeque = bounded.asDeque();
+			boundedDeque.add(ELEMENT_A);
+			printTest("fullDeque_testOfferFirst", !boundedDeque.offerFirst(ELEMENT_B));
+			printTest("fullDeque_testOffer", !boundedDeque.offer(ELEMENT_B));
+			printTest("fullDeque_testAddFirst", testAction(() -> boundedDeque.addFirst(ELEMENT_B), Result.IllegalState));
+			printTest("fullDeque_testAdd", testAction(() -> boundedDeque.add(ELEMENT_B), Result.IllegalState));
+			printTest("fullDeque_testPush", testAction(() -> boundedDeque.push(ELEMENT_B), Result.IllegalState));
+			printTest("fullList_testPush", testAction(() -> bounded.push(ELEMENT_B), Result.IllegalState));
+			printTest("fullDeque_testContents", testContents(bounded, ELEMENT_A));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Deque");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run capacity-bounded list tests for each eviction policy */
+	private void test_Bounded() {
+		System.out.println("\nBounded List Tests\n");
+		try {
+			//DROP_OLDEST trims from head and tells the listener
+			List<Integer> evicted = new ArrayList<Integer>();
+			IUDoubleLinkedList<Integer> oldest = new IUDoubleLinkedList<Integer>(3, IUDoubleLinkedList.EvictionPolicy.DROP_OLDEST, evicted::add);
+			oldest.addAll(List.of(ELEMENT_A, ELEMENT_B, ELEMENT_C));
+			printTest("dropOldestABC_testEvicted", evicted.isEmpty());
+			oldest.addToRear(ELEMENT_D);
+			printTest("dropOldestABC_addToRearD_testContents", testContents(oldest, ELEMENT_B, ELEMENT_C, ELEMENT_D));
+			printTest("dropOldestABC_addToRearD_testEvicted", evicted.equals(List.of(ELEMENT_A)));
+			oldest.addAll(List.of(ELEMENT_X, ELEMENT_Z));
+			printTest("dropOldestBCD_addAllXZ_testContents", testContents(oldest, ELEMENT_D, ELEMENT_X, ELEMENT_Z));
+			printTest("dropOldestBCD_addAllXZ_testEvicted", evicted.equals(List.of(ELEMENT_A, ELEMENT_B, ELEMENT_C)));
+			oldest.addToFront(ELEMENT_A);
+			printTest("dropOldestDXZ_addToFrontA_testContents", testContents(oldest, ELEMENT_D, ELEMENT_X, ELEMENT_Z));
+			ListIterator<Integer> oldestIt = oldest.listIterator(3);
+			oldestIt.add(ELEMENT_B);
+			printTest("dropOldestDXZ_iterAddB_testContents", testContents(oldest, ELEMENT_X, ELEMENT_Z, ELEMENT_B));
+			printTest("dropOldestXZB_iterAddB_testNextIndex", testListIterNextIndex(oldestIt, 3, Result.MatchingValue));
+			printTest("dropOldestXZB_iterAddB_testPrevious", testListIterPrevious(oldestIt, ELEMENT_B, Result.MatchingValue));
+
+			//DROP_NEWEST trims from tail, even when that is the new element
+			evicted.clear();
+			IUDoubleLinkedList<Integer> newest = new IUDoubleLinkedList<Integer>(2, IUDoubleLinkedList.EvictionPolicy.DROP_NEWEST, evicted::add);
+			newest.addToRear(ELEMENT_A);
+			newest.addToRear(ELEMENT_B);
+			IUDoubleLinkedList.Handle<Integer> dropped = newest.addToRearHandle(ELEMENT_C);
+			printTest("dropNewestAB_addToRearC_testContents", testContents(newest, ELEMENT_A, ELEMENT_B));
+			printTest("dropNewestAB_addToRearC_testHandleIsValid", !dropped.isValid());
+			newest.addToFront(ELEMENT_D);
+			printTest("dropNewestAB_addToFrontD_testContents", testContents(newest, ELEMENT_D, ELEMENT_A));
+			printTest("dropNewestAB_testEvicted", evicted.equals(List.of(ELEMENT_C, ELEMENT_B)));
+
+			//REJECT refuses inserts and leaves the list unchanged
+			IUDoubleLinkedList<Integer> reject = new IUDoubleLinkedList<Integer>(2, IUDoubleLinkedList.EvictionPolicy.REJECT, null);
+			reject.addToRear(ELEMENT_A);
+			printTest("rejectA_testAddAllBC", testAction(() -> reject.addAll(List.of(ELEMENT_B, ELEMENT_C)), Result.IllegalState));
+			printTest("rejectA_testSpliceBC", testAction(() -> reject.splice(0, dllOf(ELEMENT_B, ELEMENT_C)), Result.IllegalState));
+			printTest("rejectA_failedAdds_testContents", testContents(reject, ELEMENT_A));
+			reject.add(0, ELEMENT_B);
+			printTest("rejectBA_testAddToRear", testAction(() -> reject.addToRear(ELEMENT_C), Result.IllegalState));
+			printTest("rejectBA_testAddToFront", testAction(() -> reject.addToFront(ELEMENT_C), Result.IllegalState));
+			printTest("rejectBA_testAddAtIndex", testAction(() -> reject.add(1, ELEMENT_C), Result.IllegalState));
+			printTest("rejectBA_testAddAfter", testAction(() -> reject.addAfter(ELEMENT_C, ELEMENT_A), Result.IllegalState));
+			printTest("rejectBA_testAddToRearHandle", testAction(() -> reject.addToRearHandle(ELEMENT_C), Result.IllegalState));
+			printTest("rejectBA_testIterAdd", testAction(() -> reject.listIterator().add(ELEMENT_C), Result.IllegalState));
+			printTest("rejectBA_testOfferLast", !reject.offerLast(ELEMENT_C));
+			printTest("rejectBA_failedAdds_testContents", testContents(reject, ELEMENT_B, ELEMENT_A));
+			reject.removeFirst();
+			printTest("rejectA_testOfferFirstC", reject.offerFirst(ELEMENT_C) && testContents(reject, ELEMENT_C, ELEMENT_A));
+
+			//error paths
+			printTest("testBoundedMaxSize0", testAction(() -> new IUDoubleLinkedList<Integer>(0, IUDoubleLinkedList.EvictionPolicy.DROP_OLDEST, null), Result.IllegalArgument));
+			printTest("testBoundedPolicyNull", testAction(() -> new IUDoubleLinkedList<Integer>(2, null, null), Result.NullPointer));
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_Bounded");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
+	/** run LRUCache tests for both policies, its counters and the synchronized cache */
+	private void test_LRUCache() {
+		System.out.println("\nLRUCache Tests\n");
+		try {
+			//LRU moves every hit to the front and evicts the tail
+			LRUCache<Integer, Integer> lru = new LRUCache<Integer, Integer>(2);
+			lru.put(ELEMENT_A, 10);
+			lru.put(ELEMENT_B, 20);
+			printTest("lruAB_testGetA", lru.get(ELEMENT_A).equals(10));
+			printTest("lruAB_getA_testOrder", lru.toString().equals("[1=10, 2=20]"));
+			printTest("lruAB_testPutC", lru.put(ELEMENT_C, 30) == null);
+			printTest("lruAB_putC_testEvictedB", !lru.containsKey(ELEMENT_B) && lru.containsKey(ELEMENT_A));
+			printTest("lruAC_testEvictionCount", lru.evictionCount() == 1);
+			printTest("lruCA_testPutA", lru.put(ELEMENT_A, 11).equals(10));
+			printTest("lruCA_putA_testOrder", lru.toString().equals("[1=11, 3=30]"));
+			printTest("lruAC_putA_testEvictionCount", lru.evictionCount() == 1 && lru.size() == 2);
+			printTest("lruAC_testGetX", lru.get(ELEMENT_X) == null);
+			printTest("lruAC_testCounts", lru.hitCount() == 1 && lru.missCount() == 1);
+			printTest("lruAC_containsKeyC_testCounts", lru.containsKey(ELEMENT_C) && lru.hitCount() == 1 && lru.missCount() == 1);
+			printTest("lruAC_testRemoveC", lru.remove(ELEMENT_C).equals(30) && lru.size() == 1);
+			printTest("lruA_testRemoveC", lru.remove(ELEMENT_C) == null);
+			lru.put(ELEMENT_D, 40);
+			lru.put(ELEMENT_B, 20);
+			printTest("lruA_putDB_testEvictedA", !lru.containsKey(ELEMENT_A) && lru.evictionCount() == 2);
+			lru.clear();
+			printTest("lruBD_clear_testSize", lru.size() == 0 && lru.toString().equals("[]"));
+			printTest("lruBD_clear_testCountsKept", lru.hitCount() == 1 && lru.evictionCount() == 2);
+			lru.put(ELEMENT_A, 10);
+			printTest("lruCleared_putA_testGetA", lru.get(ELEMENT_A).equals(10));
+
+			//CLOCK leaves hits in place and gives a hit entry one second chance
+			LRUCache<Integer, Integer> clock = new LRUCache<Integer, Integer>(2, LRUCache.Policy.CLOCK);
+			clock.put(ELEMENT_A, 10);
+			clock.put(ELEMENT_B, 20);
+			clock.get(ELEMENT_A);
+			printTest("clockAB_getA_testOrder", clock.toString().equals("[2=20, 1=10]"));
+			clock.put(ELEMENT_C, 30);
+			printTest("clockAB_putC_testEvictedB", !clock.containsKey(ELEMENT_B) && clock.containsKey(ELEMENT_A));
+			printTest("clockAB_putC_testOrder", clock.toString().equals("[3=30, 1=10]"));
+			clock.put(ELEMENT_D, 40);
+			printTest("clockCA_putD_testEvictedA", !clock.containsKey(ELEMENT_A) && clock.containsKey(ELEMENT_C));
+			printTest("clockDC_testEvictionCount", clock.evictionCount() == 2);
+
+			//error paths
+			printTest("lruA_testPutNullValue", testAction(() -> lru.put(ELEMENT_B, null), Result.NullPointer));
+			printTest("lruA_putNullValue_testContainsKey", !lru.containsKey(ELEMENT_B) && lru.size() == 1);
+			printTest("testLRUCacheCapacity0", testAction(() -> new LRUCache<Integer, Integer>(0), Result.IllegalArgument));
+			printTest("testLRUCachePolicyNull", testAction(() -> new LRUCache<Integer, Integer>(1, null), Result.NullPointer));
+
+			//threads sharing a synchronized cache keep its counters and links consistent
+			LRUCache<Integer, Integer> shared = LRUCache.synchronizedCache(100, LRUCache.Policy.LRU);
+			int failed = runThreads(4, id -> {
+				for (int i = 0; i < 1000; i++) {
+					int key = id * 1000 + i;
+					shared.put(key, key);
+					shared.get(key - 50);
+				}
+			});
+			printTest("synchronized_testNoExceptions", failed == 0);
+			printTest("synchronized_testSize", shared.size() == 100);
+			printTest("synchronized_testCounts", shared.hitCount() + shared.missCount() == 4000 && shared.evictionCount() == 3900);
+		} catch (Exception e) {
+			System.out.printf("***UNABLE TO RUN/COMPLETE %s***\n", "test_LRUCache");
+			e.printStackTrace();
+		} finally {
+			if (printSectionSummaries) {
+				printSectionSummary();
+			}
+		}
+	}
 }// end class IndexedUnsortedListTester
 
 /** Interface for builder method Lambda references used above */